@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel;
+
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.tools.logging.LogRecord;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Deduplicates log messages of {@link LogRecord}s, like the warnings of
+ * {@link UiModelLogMessages}, that may be triggered at high rates. A message is
+ * identified by its record and the parameter it is formatted with. Within a time
+ * window only the first occurrence is logged; the first occurrence after the window
+ * carries the number of suppressed occurrences, e.g.
+ * {@code "UI_MODEL-100: Invalid attempt to access result in state 'ERROR' (suppressed
+ * 12,345 occurrences)"}.
+ *
+ * <p>The window can be configured per record, {@link Duration#ZERO} disables
+ * deduplication for it. Counting is lock-free. As a counter is kept per distinct
+ * parameter, the parameter must have a small set of values, e.g. a
+ * {@link de.cuioss.uimodel.result.ResultState}.
+ *
+ * <pre>
+ * LogRateLimiter.SHARED.configure(WARN.INVALID_RESULT_ACCESS, Duration.ofMinutes(1));
+ * ...
+ * LogRateLimiter.SHARED.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, state);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+public final class LogRateLimiter {
+
+    /** Window used if none is configured. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+    /** Instance used for the messages of this module. */
+    public static final LogRateLimiter SHARED = builder().build();
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private static final class Slot {
+
+        private final AtomicLong emittedAt = new AtomicLong(NEVER);
+
+        private final AtomicLong suppressed = new AtomicLong();
+    }
+
+    private final long defaultWindowNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<LogRecord, Long> windows = new ConcurrentHashMap<>();
+
+    private final Map<LogRecord, Map<Object, Slot>> slots = new ConcurrentHashMap<>();
+
+    /**
+     * @param defaultWindow used for records without specific configuration, defaults
+     *                      to {@link #DEFAULT_WINDOW}
+     * @param nanoClock     source of the current time in nanoseconds, defaults to
+     *                      {@link System#nanoTime()}
+     */
+    @Builder
+    private LogRateLimiter(final Duration defaultWindow, final LongSupplier nanoClock) {
+        defaultWindowNanos = requireNotNegative(null == defaultWindow ? DEFAULT_WINDOW : defaultWindow);
+        this.nanoClock = null == nanoClock ? System::nanoTime : nanoClock;
+    }
+
+    /**
+     * @param logRecord to be configured, must not be null
+     * @param window    within which repeated messages are suppressed, must not be
+     *                  negative. {@link Duration#ZERO} logs every occurrence.
+     */
+    public void configure(@NonNull final LogRecord logRecord, @NonNull final Duration window) {
+        windows.put(logRecord, requireNotNegative(window));
+    }
+
+    /**
+     * Logs the given record on warn level unless an identical message was logged
+     * within the window.
+     *
+     * @param logger    to be used, must not be null
+     * @param logRecord to be logged, must not be null
+     * @param parameter the record is formatted with, identifying the message together
+     *                  with the record
+     */
+    public void warn(final CuiLogger logger, final LogRecord logRecord, final Object parameter) {
+        final long suppressed = acquire(logRecord, parameter);
+        if (suppressed >= 0) {
+            logger.warn(message(logRecord, parameter, suppressed));
+        }
+    }
+
+    /**
+     * @param logRecord the record
+     * @param parameter the parameter
+     * @return the number of occurrences suppressed since the message was last logged
+     */
+    public long getSuppressedCount(final LogRecord logRecord, final Object parameter) {
+        final var perRecord = slots.get(logRecord);
+        final var slot = null == perRecord ? null : perRecord.get(key(parameter));
+        return null == slot ? 0 : slot.suppressed.get();
+    }
+
+    /**
+     * Forgets all logged messages and suppressed counts, keeping the configuration.
+     */
+    public void reset() {
+        slots.clear();
+    }
+
+    /**
+     * @return the number of suppressed occurrences to be reported if the message is to
+     *         be logged, -1 if it is suppressed
+     */
+    private long acquire(final LogRecord logRecord, final Object parameter) {
+        final long window = windows.getOrDefault(logRecord, defaultWindowNanos);
+        if (0 == window) {
+            return 0;
+        }
+        final var slot = slots.computeIfAbsent(logRecord, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key(parameter), key -> new Slot());
+        final long now = nanoClock.getAsLong();
+        final long emittedAt = slot.emittedAt.get();
+        if (NEVER != emittedAt && now - emittedAt < window || !slot.emittedAt.compareAndSet(emittedAt, now)) {
+            slot.suppressed.incrementAndGet();
+            return -1;
+        }
+        return slot.suppressed.getAndSet(0);
+    }
+
+    private static String message(final LogRecord logRecord, final Object parameter, final long suppressed) {
+        final String message = logRecord.format(parameter);
+        if (0 == suppressed) {
+            return message;
+        }
+        return String.format(Locale.ENGLISH, "%s (suppressed %,d occurrences)", message, suppressed);
+    }
+
+    private static Object key(final Object parameter) {
+        return null == parameter ? LogRateLimiter.class : parameter;
+    }
+
+    private static long requireNotNegative(final Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative, but was " + window);
+        }
+        return window.toNanos();
+    }
+}
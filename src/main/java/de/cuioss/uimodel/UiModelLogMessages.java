@@ -42,6 +42,12 @@ public final class UiModelLogMessages {
                 .identifier(2)
                 .template("Result mapped from '%s' to '%s'")
                 .build();
+
+        public static final LogRecord CIRCUIT_STATE_CHANGED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(3)
+                .template("Circuit for service '%s' changed from %s to %s")
+                .build();
     }
 
     @UtilityClass
@@ -70,6 +76,12 @@ public final class UiModelLogMessages {
                 .identifier(104)
                 .template("Failed to create result object: %s")
                 .build();
+
+        public static final LogRecord SERVICE_PROBE_FAILED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(105)
+                .template("Probing state of service '%s' failed")
+                .build();
     }
 
 }
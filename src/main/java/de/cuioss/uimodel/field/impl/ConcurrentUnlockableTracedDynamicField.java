@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.UnlockableTracedDynamicField;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe variant of {@link UnlockableTracedDynamicFieldImpl} for field models that
+ * are shared between e.g. a UI thread and background validation or autosave threads.
+ *
+ * <p>Value and editability are published together as one immutable state using an
+ * {@link AtomicReference}. Therefore, readers always observe a consistent combination
+ * of both without locking, and writers never block each other.
+ *
+ * <p>Features:
+ * <ul>
+ *   <li>Same semantics as {@link UnlockableTracedDynamicFieldImpl}</li>
+ *   <li>Atomic conditional updates via {@link #compareAndSetValue(Serializable, Serializable)}</li>
+ *   <li>Lock-free {@link #isChanged()} based on a single state snapshot</li>
+ * </ul>
+ *
+ * <p>Usage Example:
+ * <pre>
+ * var field = new ConcurrentUnlockableTracedDynamicField&lt;&gt;("draft", true);
+ *
+ * // Autosave thread: only overwrite if the user did not change the value meanwhile
+ * if (!field.compareAndSetValue("draft", "saved draft")) {
+ *     // concurrent modification, retry later
+ * }
+ * </pre>
+ *
+ * @param <T> The type of value managed by this field, must implement {@link Serializable}
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+public class ConcurrentUnlockableTracedDynamicField<T extends Serializable> implements UnlockableTracedDynamicField<T> {
+
+    @Serial
+    private static final long serialVersionUID = -4436066858106541021L;
+
+    /** The original value and editability that serve as the reset target. */
+    private final State<T> defaultState;
+
+    /** The currently published value and editability. */
+    private final AtomicReference<State<T>> state;
+
+    /**
+     * Constructs a new unlockable field with the specified initial value and
+     * editability state. Both the value and editability state become the
+     * default state for reset operations.
+     *
+     * @param initialValue  The value to store as both current and default value
+     * @param fieldEditable The initial and default editability state
+     */
+    public ConcurrentUnlockableTracedDynamicField(final T initialValue, final boolean fieldEditable) {
+        defaultState = new State<>(initialValue, fieldEditable);
+        state = new AtomicReference<>(defaultState);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditable() {
+        return state.get().editable;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAvailable() {
+        return null != state.get().value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getValue() {
+        return state.get().value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue(final T newValue) {
+        State<T> current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, new State<>(newValue, current.editable)));
+    }
+
+    /**
+     * Atomically sets the value to the given new value if the current value equals the
+     * expected value, see {@link Objects#equals(Object, Object)}. The editability is
+     * not altered.
+     *
+     * @param expectedValue the expected current value, may be null
+     * @param newValue      the new value, may be null
+     * @return {@code true} if successful, {@code false} if the current value did not
+     *         equal the expected one
+     */
+    public boolean compareAndSetValue(final T expectedValue, final T newValue) {
+        State<T> current;
+        do {
+            current = state.get();
+            if (!Objects.equals(current.value, expectedValue)) {
+                return false;
+            }
+        } while (!state.compareAndSet(current, new State<>(newValue, current.editable)));
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChanged() {
+        return !Objects.equals(defaultState.value, state.get().value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T resetValue() {
+        state.set(defaultState);
+        return defaultState.value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unlockEditMode() {
+        State<T> current;
+        do {
+            current = state.get();
+            if (current.editable) {
+                return;
+            }
+        } while (!state.compareAndSet(current, new State<>(current.value, true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditModeEnforced() {
+        return state.get().editable != defaultState.editable;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetEditMode() {
+        resetValue();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ConcurrentUnlockableTracedDynamicField<?> other)) {
+            return false;
+        }
+        return state.get().equals(other.state.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return state.get().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final var current = state.get();
+        return "ConcurrentUnlockableTracedDynamicField(currentValue=" + current.value + ", currentEditableValue="
+                + current.editable + ")";
+    }
+
+    /**
+     * Immutable combination of value and editability.
+     *
+     * @param <T> value type
+     */
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static final class State<T extends Serializable> implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 2590187466371569405L;
+
+        private final T value;
+        private final boolean editable;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.DynamicField;
+import de.cuioss.uimodel.field.DynamicFieldType;
+import de.cuioss.uimodel.field.LabeledDynamicField;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * {@link LabeledDynamicField} that reads its labeling metadata from a shared
+ * {@link DynamicFieldDescriptor} and delegates all value operations to a
+ * {@link DynamicField}. In contrast to {@link BaseLabeledDynamicField} the identifier,
+ * label key and advisory key are not copied into each instance, so a form with many
+ * fields only carries one reference to the descriptor per field.
+ *
+ * <p>Instances are usually created by {@link DynamicFieldDescriptor#createField(Serializable)}.
+ *
+ * @author Oliver Wolff
+ * @param <T> The type of value managed by this field, must implement {@link Serializable}
+ * @since 2.5
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class DescribedDynamicField<T extends Serializable> implements LabeledDynamicField<T> {
+
+    @Serial
+    private static final long serialVersionUID = -1260458542187453573L;
+
+    /** The shared metadata of this field. */
+    @Getter
+    @NonNull
+    private final DynamicFieldDescriptor descriptor;
+
+    /** The underlying field that handles all dynamic field operations. */
+    @NonNull
+    private final DynamicField<T> delegate;
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLabelKey() {
+        return descriptor.getLabelKey();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAdvisoryKey() {
+        return descriptor.getAdvisoryKey();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getIdentifier() {
+        return descriptor.getIdentifier();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DynamicFieldType getFieldType() {
+        return delegate.getFieldType();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditable() {
+        return delegate.isEditable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getValue() {
+        return delegate.getValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue(final T newValue) {
+        delegate.setValue(newValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChanged() {
+        return delegate.isChanged();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T resetValue() {
+        return delegate.resetValue();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.DynamicFieldType;
+import de.cuioss.uimodel.field.LabeledDynamicField;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable description of a {@link LabeledDynamicField}, combining the metadata that
+ * is identical for every instance of a field: identifier, label key, advisory key,
+ * {@link DynamicFieldType} and editability. A descriptor is intended to be created once
+ * per form definition and cached, while the per-request value holders are created from
+ * it via {@link #createField(Serializable)}.
+ *
+ * <p>The created fields reference this descriptor instead of copying its attributes,
+ * see {@link DescribedDynamicField}.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * // Created once, e.g. while reading the form metadata
+ * DynamicFieldDescriptor descriptor = DynamicFieldDescriptor.builder()
+ *     .identifier("userName")
+ *     .labelKey("user.name.label")
+ *     .advisoryKey("user.name.help")
+ *     .fieldType(DynamicFieldType.STRING)
+ *     .editable(true)
+ *     .build();
+ *
+ * // Per request
+ * LabeledDynamicField&lt;String&gt; field = descriptor.createField("John Doe");
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @see DynamicFormDescriptor
+ * @since 2.5
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class DynamicFieldDescriptor implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6113440846393375032L;
+
+    /** Unique identifier of the described field. */
+    @NonNull
+    private final String identifier;
+
+    /** Resource key for looking up the field's label text, may be null. */
+    private final String labelKey;
+
+    /** Resource key for looking up the field's advisory/help text, may be null. */
+    private final String advisoryKey;
+
+    /** The content type of the described field. */
+    @NonNull
+    private final DynamicFieldType fieldType;
+
+    /** Defines whether the created fields are editable. */
+    private final boolean editable;
+
+    /**
+     * @param identifier  must not be null
+     * @param labelKey    may be null
+     * @param advisoryKey may be null
+     * @param fieldType   must not be null
+     * @param editable    defines whether the created fields are editable
+     */
+    @Builder
+    public DynamicFieldDescriptor(@NonNull final String identifier, final String labelKey,
+            final String advisoryKey, @NonNull final DynamicFieldType fieldType, final boolean editable) {
+        this.identifier = identifier;
+        this.labelKey = labelKey;
+        this.advisoryKey = advisoryKey;
+        this.fieldType = fieldType;
+        this.editable = editable;
+    }
+
+    /**
+     * Creates a new value holder for this descriptor.
+     *
+     * @param value the initial value, may be null
+     * @param <T>   the value type, must match {@link #getFieldType()}
+     * @return a new {@link LabeledDynamicField} referencing this descriptor
+     * @throws IllegalArgumentException if the value is not an instance of the
+     *                                  {@link DynamicFieldType#getWrapperType()}
+     */
+    public <T extends Serializable> LabeledDynamicField<T> createField(final T value) {
+        if (null != value && !fieldType.getWrapperType().isInstance(value)) {
+            throw new IllegalArgumentException("Field '%s' of type %s does not accept a value of %s"
+                    .formatted(identifier, fieldType, value.getClass().getName()));
+        }
+        return new DescribedDynamicField<>(this, fieldType.createDynamicField(value, editable));
+    }
+
+    /**
+     * Creates a value holder for each of the given values, e.g. for a column of a
+     * table sharing the same field definition.
+     *
+     * @param values the initial values, must not be null, but may contain null elements
+     * @param <T>    the value type, must match {@link #getFieldType()}
+     * @return a mutable list with one field per value, in the order of the given values
+     * @throws IllegalArgumentException if a value does not match the field type
+     */
+    public <T extends Serializable> List<LabeledDynamicField<T>> createFields(@NonNull final List<T> values) {
+        final List<LabeledDynamicField<T>> result = new ArrayList<>(values.size());
+        for (final T value : values) {
+            result.add(createField(value));
+        }
+        return result;
+    }
+}
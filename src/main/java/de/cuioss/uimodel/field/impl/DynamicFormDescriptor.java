@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.LabeledDynamicField;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, ordered set of {@link DynamicFieldDescriptor}s representing a form
+ * definition. It is meant to be created once from the form metadata and cached, e.g.
+ * in an application scoped bean. For each request the value holders are created in
+ * bulk via {@link #createFields(Map)}, optionally in parallel for huge forms, see
+ * {@link #createFields(Map, boolean)}.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * DynamicFormDescriptor form = new DynamicFormDescriptor(List.of(nameDescriptor, ageDescriptor));
+ *
+ * // Per request
+ * List&lt;LabeledDynamicField&lt;?&gt;&gt; fields = form.createFields(Map.of("name", "John", "age", 42));
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+@EqualsAndHashCode(of = "descriptors")
+@ToString(of = "descriptors")
+public final class DynamicFormDescriptor implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2977016225592722245L;
+
+    /** The descriptors in form order. */
+    @Getter
+    @SuppressWarnings("serial") // List.copyOf returns a serializable list
+    private final List<DynamicFieldDescriptor> descriptors;
+
+    /** Index of the descriptors by their identifier, rebuilt on deserialization. */
+    private final transient Map<String, DynamicFieldDescriptor> byIdentifier;
+
+    /**
+     * @param descriptors must not be null, the identifiers must be unique
+     * @throws IllegalArgumentException if an identifier is used more than once
+     */
+    public DynamicFormDescriptor(@NonNull final Collection<DynamicFieldDescriptor> descriptors) {
+        this.descriptors = List.copyOf(descriptors);
+        final Map<String, DynamicFieldDescriptor> index = HashMap.newHashMap(this.descriptors.size());
+        for (final DynamicFieldDescriptor descriptor : this.descriptors) {
+            if (null != index.put(descriptor.getIdentifier(), descriptor)) {
+                throw new IllegalArgumentException(
+                        "Duplicate field identifier '%s'".formatted(descriptor.getIdentifier()));
+            }
+        }
+        byIdentifier = Map.copyOf(index);
+    }
+
+    /**
+     * @param identifier to be looked up
+     * @return the descriptor for the given identifier, if present
+     */
+    public Optional<DynamicFieldDescriptor> getDescriptor(final String identifier) {
+        return Optional.ofNullable(byIdentifier.get(identifier));
+    }
+
+    /**
+     * @return the number of described fields
+     */
+    public int size() {
+        return descriptors.size();
+    }
+
+    /**
+     * Creates the value holders for all descriptors sequentially.
+     *
+     * @param values the initial values keyed by field identifier. Missing entries
+     *               result in fields without value. Must not be null
+     * @return an unmodifiable list with one field per descriptor, in form order
+     * @throws IllegalArgumentException if a value does not match the field type of its descriptor
+     */
+    public List<LabeledDynamicField<?>> createFields(@NonNull final Map<String, ? extends Serializable> values) {
+        return createFields(values, false);
+    }
+
+    /**
+     * Creates the value holders for all descriptors.
+     *
+     * @param values   the initial values keyed by field identifier. Missing entries
+     *                 result in fields without value. Must not be null
+     * @param parallel if {@code true} the fields are created using a parallel stream.
+     *                 This pays off only for huge forms
+     * @return an unmodifiable list with one field per descriptor, in form order
+     * @throws IllegalArgumentException if a value does not match the field type of its descriptor
+     */
+    public List<LabeledDynamicField<?>> createFields(@NonNull final Map<String, ? extends Serializable> values,
+            final boolean parallel) {
+        var indexes = IntStream.range(0, descriptors.size());
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+        return indexes.<LabeledDynamicField<?>>mapToObj(index -> createField(descriptors.get(index), values))
+                .toList();
+    }
+
+    @Serial
+    private Object readResolve() {
+        return new DynamicFormDescriptor(descriptors);
+    }
+
+    private static LabeledDynamicField<?> createField(final DynamicFieldDescriptor descriptor,
+            final Map<String, ? extends Serializable> values) {
+        return descriptor.createField(values.get(descriptor.getIdentifier()));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.TracedDynamicField;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Immutable notification about the (coalesced) change of a {@link TracedDynamicField},
+ * published by {@link FieldChangePublisher}. It compares the state of the field before
+ * the first and after the last change of a burst.
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString(exclude = "field")
+public final class FieldChange {
+
+    /** The changed field. */
+    private final TracedDynamicField<?> field;
+
+    /** The value before the first change of the burst, may be null. */
+    private final Serializable previousValue;
+
+    /** The value after the last change of the burst, may be null. */
+    private final Serializable currentValue;
+
+    /** The editability before the first change of the burst. */
+    private final boolean previousEditable;
+
+    /** The editability after the last change of the burst. */
+    private final boolean currentEditable;
+
+    /**
+     * @return {@code true} if previous and current value differ
+     */
+    public boolean isValueChanged() {
+        return !Objects.equals(previousValue, currentValue);
+    }
+
+    /**
+     * @return {@code true} if previous and current editability differ
+     */
+    public boolean isEditableChanged() {
+        return previousEditable != currentEditable;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.field.TracedDynamicField;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Flow.Publisher} for value and editability changes of
+ * {@link TracedDynamicField}s, replacing the polling of {@link TracedDynamicField#isChanged()}
+ * over whole models, e.g. for autosave or the recalculation of dependent fields.
+ *
+ * <p>Changes are reported by {@link ObservableTracedDynamicField} or directly via
+ * {@link #fieldChanged(TracedDynamicField, Serializable, boolean)}. They are coalesced
+ * per field within the configured window and delivered as one batch on the configured
+ * {@link Executor}. A field that ends up in its original state within a window, e.g.
+ * by setting a value and resetting it again, is not published at all.
+ *
+ * <p>Publishing never blocks the flushing thread: a batch that does not fit into the
+ * buffer of a slow subscriber is dropped for that subscriber. Once closed, no further
+ * changes are recorded.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * try (var publisher = new FieldChangePublisher(executor, Duration.ofMillis(200))) {
+ *     var field = new ObservableTracedDynamicField&lt;&gt;(new StringEditableField(true), publisher);
+ *     publisher.subscribe(autosaveSubscriber);
+ *     field.setValue("a");
+ *     field.setValue("ab");  // delivered together with the previous change as one FieldChange
+ * }
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+public class FieldChangePublisher implements Flow.Publisher<List<FieldChange>>, AutoCloseable {
+
+    private static final CuiLogger LOGGER = new CuiLogger(FieldChangePublisher.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final SubmissionPublisher<List<FieldChange>> delegate;
+
+    private final Executor flushExecutor;
+
+    /** Pending changes, keyed by field identity as fields define value based equality. */
+    private Map<TracedDynamicField<?>, PendingChange> pending = new IdentityHashMap<>();
+
+    /** Guarded by {@link #lock}. */
+    private boolean closed;
+
+    /**
+     * @param executor         used for flushing and delivering the batches, must not be null
+     * @param coalescingWindow the time changes are collected before being published,
+     *                         must not be null. {@link Duration#ZERO} publishes as soon
+     *                         as the executor runs the flush
+     */
+    public FieldChangePublisher(@NonNull final Executor executor, @NonNull final Duration coalescingWindow) {
+        delegate = new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+        if (coalescingWindow.isZero() || coalescingWindow.isNegative()) {
+            flushExecutor = executor;
+        } else {
+            flushExecutor = CompletableFuture.delayedExecutor(coalescingWindow.toNanos(), TimeUnit.NANOSECONDS,
+                    executor);
+        }
+    }
+
+    /**
+     * Reports a change of the given field. The current state is read from the field
+     * immediately, therefore this method must be called after the change has been applied.
+     *
+     * @param field            the changed field, must not be null
+     * @param previousValue    the value before the change
+     * @param previousEditable the editability before the change
+     * @throws RejectedExecutionException if the executor does not accept the flush, in
+     *                                    which case the pending changes are discarded
+     */
+    public void fieldChanged(@NonNull final TracedDynamicField<?> field, final Serializable previousValue,
+            final boolean previousEditable) {
+        final boolean scheduleFlush;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            final Serializable currentValue = field.getValue();
+            final boolean currentEditable = field.isEditable();
+            scheduleFlush = pending.isEmpty();
+            final var change = pending.get(field);
+            if (null == change) {
+                pending.put(field, new PendingChange(previousValue, previousEditable, currentValue, currentEditable));
+            } else {
+                change.currentValue = currentValue;
+                change.currentEditable = currentEditable;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (scheduleFlush) {
+            try {
+                flushExecutor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // Otherwise no flush would ever be scheduled again
+                discardPending();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Publishes all pending changes immediately.
+     */
+    public void flush() {
+        final Map<TracedDynamicField<?>, PendingChange> toBePublished;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            toBePublished = pending;
+            pending = new IdentityHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        final List<FieldChange> batch = new ArrayList<>(toBePublished.size());
+        for (final var entry : toBePublished.entrySet()) {
+            final var change = entry.getValue();
+            final var fieldChange = new FieldChange(entry.getKey(), change.previousValue, change.currentValue,
+                    change.previousEditable, change.currentEditable);
+            if (fieldChange.isValueChanged() || fieldChange.isEditableChanged()) {
+                batch.add(fieldChange);
+            }
+        }
+        if (!batch.isEmpty() && !delegate.isClosed()) {
+            delegate.offer(List.copyOf(batch), (subscriber, dropped) -> {
+                LOGGER.debug("Dropping %s field changes for saturated subscriber %s", dropped.size(), subscriber);
+                return false;
+            });
+        }
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super List<FieldChange>> subscriber) {
+        delegate.subscribe(subscriber);
+    }
+
+    /**
+     * Completes all subscriptions. Pending changes are discarded.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pending = new IdentityHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        delegate.close();
+    }
+
+    private void discardPending() {
+        lock.lock();
+        try {
+            pending = new IdentityHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class PendingChange {
+
+        private final Serializable previousValue;
+        private final boolean previousEditable;
+        private Serializable currentValue;
+        private boolean currentEditable;
+
+        private PendingChange(final Serializable previousValue, final boolean previousEditable,
+                final Serializable currentValue, final boolean currentEditable) {
+            this.previousValue = previousValue;
+            this.previousEditable = previousEditable;
+            this.currentValue = currentValue;
+            this.currentEditable = currentEditable;
+        }
+    }
+}
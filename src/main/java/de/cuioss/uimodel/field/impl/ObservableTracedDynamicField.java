@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.TracedDynamicField;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Decorator for {@link TracedDynamicField} reporting every modification to a
+ * {@link FieldChangePublisher}. The published {@link FieldChange}s reference this
+ * decorator as field.
+ *
+ * <p>The publisher is not serialized: A deserialized instance behaves like the plain
+ * delegate.
+ *
+ * @author Eugen Fischer
+ * @param <T> The type of value managed by this field, must implement {@link Serializable}
+ * @see ObservableUnlockableTracedDynamicField
+ * @since 2.5
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = "delegate")
+@ToString(of = "delegate")
+public class ObservableTracedDynamicField<T extends Serializable> implements TracedDynamicField<T> {
+
+    @Serial
+    private static final long serialVersionUID = -7380127417426924227L;
+
+    /** The underlying field that handles all value operations. */
+    @NonNull
+    @Getter(AccessLevel.PROTECTED)
+    private final TracedDynamicField<T> delegate;
+
+    /** The publisher to be notified, not serialized. */
+    @NonNull
+    private final transient FieldChangePublisher publisher;
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditable() {
+        return delegate.isEditable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getValue() {
+        return delegate.getValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue(final T newValue) {
+        observe(() -> delegate.setValue(newValue));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChanged() {
+        return delegate.isChanged();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T resetValue() {
+        observe(delegate::resetValue);
+        return delegate.getValue();
+    }
+
+    /**
+     * Runs the given modification and reports it to the publisher.
+     *
+     * @param modification to be applied to the delegate
+     */
+    protected void observe(final Runnable modification) {
+        final T previousValue = delegate.getValue();
+        final boolean previousEditable = delegate.isEditable();
+        modification.run();
+        if (null != publisher) {
+            publisher.fieldChanged(this, previousValue, previousEditable);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.UnlockableTracedDynamicField;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Variant of {@link ObservableTracedDynamicField} for {@link UnlockableTracedDynamicField}s,
+ * additionally reporting the editability changes caused by {@link #unlockEditMode()}
+ * and {@link #resetEditMode()}.
+ *
+ * @author Eugen Fischer
+ * @param <T> The type of value managed by this field, must implement {@link Serializable}
+ * @since 2.5
+ */
+public class ObservableUnlockableTracedDynamicField<T extends Serializable> extends ObservableTracedDynamicField<T>
+        implements UnlockableTracedDynamicField<T> {
+
+    @Serial
+    private static final long serialVersionUID = 3002951416453593540L;
+
+    /**
+     * @param delegate  the field to be observed, must not be null
+     * @param publisher to be notified about changes, must not be null
+     */
+    public ObservableUnlockableTracedDynamicField(final UnlockableTracedDynamicField<T> delegate,
+            final FieldChangePublisher publisher) {
+        super(delegate, publisher);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unlockEditMode() {
+        observe(unlockable()::unlockEditMode);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditModeEnforced() {
+        return unlockable().isEditModeEnforced();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetEditMode() {
+        observe(unlockable()::resetEditMode);
+    }
+
+    private UnlockableTracedDynamicField<T> unlockable() {
+        return (UnlockableTracedDynamicField<T>) getDelegate();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.TracedDynamicField;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Multi-step undo / redo journal for the {@link TracedDynamicField}s of a form.
+ * {@link TracedDynamicField#resetValue()} only restores a single step, this journal
+ * records every change as a pair of field index and previous value.
+ *
+ * <p>The entries are kept in a ring buffer with a fixed capacity per form, backed by
+ * one {@code int[]} and one {@code Serializable[]}. Recording, undo and redo are
+ * O(1). If the capacity is exceeded the oldest entry is discarded.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * TracedDynamicFieldJournal journal = new TracedDynamicFieldJournal(formFields, 100);
+ *
+ * journal.setValue(0, "John");   // modifies formFields.get(0) and records the change
+ * journal.setValue(1, 42);
+ *
+ * journal.undo();                // formFields.get(1) has its previous value again
+ * journal.redo();                // formFields.get(1) is 42 again
+ * </pre>
+ *
+ * <p>Implementation Notes:
+ * <ul>
+ *   <li>Recording a new change discards all redoable entries</li>
+ *   <li>Changes that do not alter the value, see {@link Objects#equals(Object, Object)},
+ *   are not recorded</li>
+ *   <li>The journal is not thread-safe</li>
+ * </ul>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+@ToString(of = {"capacity", "size", "cursor"})
+public class TracedDynamicFieldJournal implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2381906547210330916L;
+
+    /** The journaled fields, addressed by their index. */
+    @SuppressWarnings("serial") // List.copyOf returns a serializable list
+    private final List<TracedDynamicField<?>> fields;
+
+    /** The maximum number of entries. */
+    @Getter
+    private final int capacity;
+
+    /** Field index of each entry. */
+    private final int[] fieldIndexes;
+
+    /** Value of each entry: The previous value for undoable, the undone value for redoable entries. */
+    private final Serializable[] values;
+
+    /** Slot of the oldest entry. */
+    private int start;
+
+    /** Number of undoable plus redoable entries. */
+    private int size;
+
+    /** Number of undoable entries. */
+    private int cursor;
+
+    /**
+     * @param fields   the fields of the form, must not be null. The index within this
+     *                 list is used for addressing a field
+     * @param capacity the maximum number of undoable steps, must be positive
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public TracedDynamicFieldJournal(@NonNull final List<? extends TracedDynamicField<?>> fields,
+            final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+        }
+        this.fields = List.copyOf(fields);
+        this.capacity = capacity;
+        fieldIndexes = new int[capacity];
+        values = new Serializable[capacity];
+    }
+
+    /**
+     * Sets the value of the addressed field and records the previous value.
+     *
+     * @param fieldIndex index of the field to be modified
+     * @param newValue   the new value, may be null
+     * @throws IndexOutOfBoundsException if the index does not address a field
+     * @throws IllegalStateException     if the field is not editable
+     * @throws ClassCastException        if the value does not match the field
+     */
+    public void setValue(final int fieldIndex, final Serializable newValue) {
+        final var field = field(fieldIndex);
+        final Serializable previousValue = field.getValue();
+        field.setValue(newValue);
+        record(fieldIndex, previousValue);
+    }
+
+    /**
+     * Records a change that has already been applied to the addressed field, e.g. by a
+     * UI component writing directly into the field.
+     *
+     * @param fieldIndex    index of the modified field
+     * @param previousValue the value of the field before the change
+     * @throws IndexOutOfBoundsException if the index does not address a field
+     */
+    public void record(final int fieldIndex, final Serializable previousValue) {
+        if (Objects.equals(previousValue, field(fieldIndex).getValue())) {
+            return;
+        }
+        for (int i = cursor; i < size; i++) {
+            values[slot(i)] = null;
+        }
+        size = cursor;
+        if (size == capacity) {
+            start = slot(1);
+            size--;
+        }
+        final var slot = slot(size);
+        fieldIndexes[slot] = fieldIndex;
+        values[slot] = previousValue;
+        size++;
+        cursor = size;
+    }
+
+    /**
+     * Reverts the most recent undoable change.
+     *
+     * @return {@code true} if a change was reverted, {@code false} if there was nothing to undo
+     * @throws IllegalStateException if the field is not editable anymore
+     */
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        swap(slot(cursor - 1));
+        cursor--;
+        return true;
+    }
+
+    /**
+     * Reapplies the most recently undone change.
+     *
+     * @return {@code true} if a change was reapplied, {@code false} if there was nothing to redo
+     * @throws IllegalStateException if the field is not editable anymore
+     */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        swap(slot(cursor));
+        cursor++;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if there is at least one change to be undone
+     */
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    /**
+     * @return {@code true} if there is at least one undone change to be reapplied
+     */
+    public boolean canRedo() {
+        return cursor < size;
+    }
+
+    /**
+     * @return the number of changes that can be undone
+     */
+    public int getUndoCount() {
+        return cursor;
+    }
+
+    /**
+     * @return the number of changes that can be redone
+     */
+    public int getRedoCount() {
+        return size - cursor;
+    }
+
+    /**
+     * Discards all entries without modifying the fields.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            values[slot(i)] = null;
+        }
+        start = 0;
+        size = 0;
+        cursor = 0;
+    }
+
+    private void swap(final int slot) {
+        final var field = field(fieldIndexes[slot]);
+        final Serializable currentValue = field.getValue();
+        field.setValue(values[slot]);
+        values[slot] = currentValue;
+    }
+
+    private int slot(final int offset) {
+        return (start + offset) % capacity;
+    }
+
+    @SuppressWarnings("unchecked") // the values originate from the very same field
+    private TracedDynamicField<Serializable> field(final int fieldIndex) {
+        return (TracedDynamicField<Serializable>) fields.get(fieldIndex);
+    }
+}
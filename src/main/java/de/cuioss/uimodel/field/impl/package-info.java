@@ -35,9 +35,27 @@
  *   <li>{@link de.cuioss.uimodel.field.impl.DoubleEditableField} - Double values</li>
  * </ul>
  *
+ * <h2>Form Definitions</h2>
+ * <ul>
+ *   <li>{@link de.cuioss.uimodel.field.impl.DynamicFieldDescriptor} - Cacheable field metadata</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.DynamicFormDescriptor} - Bulk creation of form fields</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.DescribedDynamicField} - Field sharing its descriptor</li>
+ * </ul>
+ *
+ * <h2>Change Notification</h2>
+ * <ul>
+ *   <li>{@link de.cuioss.uimodel.field.impl.FieldChangePublisher} - Coalescing publisher of field changes</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.ObservableTracedDynamicField} - Field reporting its changes</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.ObservableUnlockableTracedDynamicField} - Protected field
+ *       reporting its changes</li>
+ * </ul>
+ *
  * <h2>Special Implementations</h2>
  * <ul>
  *   <li>{@link de.cuioss.uimodel.field.impl.UnlockableTracedDynamicFieldImpl} - Protected fields</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.ConcurrentUnlockableTracedDynamicField} - Thread-safe
+ *       protected fields</li>
+ *   <li>{@link de.cuioss.uimodel.field.impl.TracedDynamicFieldJournal} - Multi-step undo / redo</li>
  * </ul>
  *
  * @author Oliver Wolff
@@ -21,6 +21,7 @@ import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Year;
 
 /**
  * A value object that wraps an integer value with boundary validation capabilities.
@@ -33,6 +34,7 @@ import java.io.Serializable;
  *   <li>Built-in boundary validation</li>
  *   <li>Specialized factories for common use cases (year, month, DAX)</li>
  *   <li>Immutable implementation</li>
+ *   <li>Shared instances for the common day, month and year values</li>
  * </ul>
  *
  * <p>The class provides predefined bounds for common scenarios:
@@ -83,6 +85,26 @@ public class ConditionalInteger implements Serializable {
      */
     public static final ConditionalInteger EMPTY_INSTANCE = new ConditionalInteger(null, MIN_BOUND, MIN_BOUND);
 
+    /** Number of years before the current year covered by the year cache */
+    private static final int YEAR_CACHE_PAST = 200;
+
+    /** Number of years after the current year covered by the year cache */
+    private static final int YEAR_CACHE_FUTURE = 50;
+
+    /** Cached day instances for the contents 0 to 32 */
+    private static final ConditionalInteger[] DAY_CACHE = createCache(MIN_BOUND, DAX_MAX_BOUND, DAX_MAX_BOUND);
+
+    /** Cached month instances for the contents 0 to 13 */
+    private static final ConditionalInteger[] MONTH_CACHE = createCache(MIN_BOUND, MONTH_MAX_BOUND,
+            MONTH_MAX_BOUND);
+
+    /** First year covered by {@link #YEAR_CACHE} */
+    private static final int YEAR_CACHE_LOW = Math.max(MIN_BOUND, Year.now().getValue() - YEAR_CACHE_PAST);
+
+    /** Cached year instances for a window around the current year */
+    private static final ConditionalInteger[] YEAR_CACHE = createCache(YEAR_CACHE_LOW,
+            Math.min(YEAR_MAX_BOUND, Year.now().getValue() + YEAR_CACHE_FUTURE), YEAR_MAX_BOUND);
+
     @Serial
     private static final long serialVersionUID = 5495286309563797727L;
 
@@ -124,14 +146,25 @@ public class ConditionalInteger implements Serializable {
      * if they fall between 0 and 5000 (exclusive).
      *
      * @param year The year value to wrap, may be null
-     * @return A new ConditionalInteger instance for the year, or {@link #EMPTY_INSTANCE}
+     * @return A ConditionalInteger instance for the year, or {@link #EMPTY_INSTANCE}
      *         if the input is null
      */
     public static ConditionalInteger createYearInstance(final Integer year) {
         if (null == year) {
             return EMPTY_INSTANCE;
         }
-        return new ConditionalInteger(year, MIN_BOUND, YEAR_MAX_BOUND);
+        return createYearInstance(year.intValue());
+    }
+
+    /**
+     * Variant of {@link #createYearInstance(Integer)} for primitive values. Instances
+     * within the cached range are shared and therefore created without allocation.
+     *
+     * @param year The year value to wrap
+     * @return A ConditionalInteger instance for the year
+     */
+    public static ConditionalInteger createYearInstance(final int year) {
+        return cachedOrNew(YEAR_CACHE, YEAR_CACHE_LOW, year, YEAR_MAX_BOUND);
     }
 
     /**
@@ -140,14 +173,25 @@ public class ConditionalInteger implements Serializable {
      * for systems that use a 13th month.
      *
      * @param month The month value to wrap, may be null
-     * @return A new ConditionalInteger instance for the month, or {@link #EMPTY_INSTANCE}
+     * @return A ConditionalInteger instance for the month, or {@link #EMPTY_INSTANCE}
      *         if the input is null
      */
     public static ConditionalInteger createMonthInstance(final Integer month) {
         if (null == month) {
             return EMPTY_INSTANCE;
         }
-        return new ConditionalInteger(month, MIN_BOUND, MONTH_MAX_BOUND);
+        return createMonthInstance(month.intValue());
+    }
+
+    /**
+     * Variant of {@link #createMonthInstance(Integer)} for primitive values. Instances
+     * within the cached range are shared and therefore created without allocation.
+     *
+     * @param month The month value to wrap
+     * @return A ConditionalInteger instance for the month
+     */
+    public static ConditionalInteger createMonthInstance(final int month) {
+        return cachedOrNew(MONTH_CACHE, MIN_BOUND, month, MONTH_MAX_BOUND);
     }
 
     /**
@@ -155,13 +199,83 @@ public class ConditionalInteger implements Serializable {
      * if they fall between 0 and 32 (exclusive).
      *
      * @param day The day value to wrap, may be null
-     * @return A new ConditionalInteger instance for the day, or {@link #EMPTY_INSTANCE}
+     * @return A ConditionalInteger instance for the day, or {@link #EMPTY_INSTANCE}
      *         if the input is null
      */
     public static ConditionalInteger createDayInstance(final Integer day) {
         if (null == day) {
             return EMPTY_INSTANCE;
         }
-        return new ConditionalInteger(day, MIN_BOUND, DAX_MAX_BOUND);
+        return createDayInstance(day.intValue());
+    }
+
+    /**
+     * Variant of {@link #createDayInstance(Integer)} for primitive values. Instances
+     * within the cached range are shared and therefore created without allocation.
+     *
+     * @param day The day value to wrap
+     * @return A ConditionalInteger instance for the day
+     */
+    public static ConditionalInteger createDayInstance(final int day) {
+        return cachedOrNew(DAY_CACHE, MIN_BOUND, day, DAX_MAX_BOUND);
+    }
+
+    private static ConditionalInteger cachedOrNew(final ConditionalInteger[] cache, final int low, final int value,
+            final int maxBound) {
+        final ConditionalInteger cached = lookup(cache, low, value);
+        if (null != cached) {
+            return cached;
+        }
+        return new ConditionalInteger(value, MIN_BOUND, maxBound);
+    }
+
+    private static ConditionalInteger lookup(final ConditionalInteger[] cache, final int low, final int value) {
+        final int index = value - low;
+        if (index >= 0 && index < cache.length) {
+            return cache[index];
+        }
+        return null;
+    }
+
+    private static ConditionalInteger[] createCache(final int low, final int high, final int maxBound) {
+        final var cache = new ConditionalInteger[high - low + 1];
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new ConditionalInteger(low + i, MIN_BOUND, maxBound);
+        }
+        return cache;
+    }
+
+    /**
+     * Replaces a deserialized instance by the cached one with identical content and
+     * validity, if there is any. Subclasses are never replaced.
+     *
+     * @return the canonical instance
+     */
+    @Serial
+    private Object readResolve() {
+        if (getClass() != ConditionalInteger.class) {
+            return this;
+        }
+        if (null == content) {
+            return EMPTY_INSTANCE;
+        }
+        final int value = content;
+        var candidate = lookup(DAY_CACHE, MIN_BOUND, value);
+        if (matches(candidate)) {
+            return candidate;
+        }
+        candidate = lookup(MONTH_CACHE, MIN_BOUND, value);
+        if (matches(candidate)) {
+            return candidate;
+        }
+        candidate = lookup(YEAR_CACHE, YEAR_CACHE_LOW, value);
+        if (matches(candidate)) {
+            return candidate;
+        }
+        return this;
+    }
+
+    private boolean matches(final ConditionalInteger candidate) {
+        return null != candidate && candidate.validAndInBound == validAndInBound;
     }
 }
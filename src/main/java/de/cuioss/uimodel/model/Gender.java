@@ -20,10 +20,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static de.cuioss.tools.string.MoreStrings.nullToEmpty;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Represents gender identities in the system, providing both visual (CSS icon classes)
@@ -73,7 +71,7 @@ import static de.cuioss.tools.string.MoreStrings.nullToEmpty;
  * <ul>
  *   <li>The enum implements {@link LabelKeyProvider} for i18n support</li>
  *   <li>All string parsing is case-insensitive for flexibility</li>
- *   <li>The mapping is immutable and thread-safe</li>
+ *   <li>Parsing is allocation-free and independent of the default locale</li>
  * </ul>
  *
  * @author Oliver Wolff
@@ -144,30 +142,6 @@ public enum Gender implements LabelKeyProvider {
     @Getter
     private final String labelKey;
 
-    /** Lookup map for efficient string to enum conversion. */
-    private static final Map<String, Gender> MAPPING = initMapping();
-
-    /**
-     * Initializes the mapping between string representations and Gender enums.
-     * This includes both full names and common abbreviations.
-     *
-     * @return An immutable map of string keys to Gender values
-     */
-    private static Map<String, Gender> initMapping() {
-        final Map<String, Gender> result = HashMap.newHashMap(6);
-        result.put("m", MALE);
-        result.put("male", MALE);
-        result.put("f", FEMALE);
-        result.put("female", FEMALE);
-        result.put("o", OTHER);
-        result.put("other", OTHER);
-        result.put("d", DIVERSE);
-        result.put("diverse", DIVERSE);
-        result.put("x", UNDEFINED);
-        result.put("undefined", UNDEFINED);
-        return result;
-    }
-
     /**
      * Converts a string representation to its corresponding Gender enum value.
      * The conversion is case-insensitive and supports both full names and
@@ -188,7 +162,99 @@ public enum Gender implements LabelKeyProvider {
      * @return The corresponding Gender enum value, never null
      */
     public static Gender fromString(final String value) {
-        final var key = nullToEmpty(value).toLowerCase();
-        return MAPPING.getOrDefault(key, UNKNOWN);
+        return fromCharSequence(value);
+    }
+
+    /**
+     * Variant of {@link #fromString(String)} for arbitrary {@link CharSequence}s, e.g.
+     * a {@link StringBuilder} reused while parsing an import file. The parsing neither
+     * allocates nor depends on the default locale: Only ASCII letters are folded to
+     * lower case.
+     *
+     * @param value The characters to convert, may be null
+     * @return The corresponding Gender enum value, never null
+     */
+    public static Gender fromCharSequence(final CharSequence value) {
+        if (null == value) {
+            return UNKNOWN;
+        }
+        return switch (value.length()) {
+            case 1 -> fromAbbreviation(value.charAt(0));
+            case 4 -> matches(value, "male") ? MALE : UNKNOWN;
+            case 5 -> matches(value, "other") ? OTHER : UNKNOWN;
+            case 6 -> matches(value, "female") ? FEMALE : UNKNOWN;
+            case 7 -> matches(value, "diverse") ? DIVERSE : UNKNOWN;
+            case 9 -> matches(value, "undefined") ? UNDEFINED : UNKNOWN;
+            default -> UNKNOWN;
+        };
+    }
+
+    /**
+     * Variant of {@link #fromString(String)} for ASCII encoded bytes, e.g. a slice of a
+     * read buffer, avoiding the creation of an intermediate {@link String}.
+     *
+     * @param bytes  The buffer containing the ASCII encoded value, must not be null
+     * @param offset The start of the value within the buffer
+     * @param length The number of bytes of the value
+     * @return The corresponding Gender enum value, never null
+     * @throws IndexOutOfBoundsException if offset and length do not denote a range within the buffer
+     */
+    public static Gender fromBytes(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return fromCharSequence(new AsciiSequence(bytes, offset, length));
+    }
+
+    private static Gender fromAbbreviation(final char value) {
+        return switch (toLowerAscii(value)) {
+            case 'm' -> MALE;
+            case 'f' -> FEMALE;
+            case 'o' -> OTHER;
+            case 'd' -> DIVERSE;
+            case 'x' -> UNDEFINED;
+            default -> UNKNOWN;
+        };
+    }
+
+    /**
+     * @param value    to be checked, must have the same length as the expected value
+     * @param expected lower case ASCII representation
+     * @return {@code true} if both match ignoring the case of ASCII letters
+     */
+    private static boolean matches(final CharSequence value, final String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (toLowerAscii(value.charAt(i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toLowerAscii(final char value) {
+        if (value >= 'A' && value <= 'Z') {
+            return (char) (value | 0x20);
+        }
+        return value;
+    }
+
+    /**
+     * Minimal {@link CharSequence} view on ASCII bytes. Being short-lived, it is
+     * usually eliminated by escape analysis.
+     */
+    private record AsciiSequence(byte[] bytes, int offset, int length) implements CharSequence {
+
+        @Override
+        public char charAt(final int index) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return new AsciiSequence(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+        }
     }
 }
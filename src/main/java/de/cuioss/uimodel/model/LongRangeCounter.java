@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model;
+
+import java.io.Serializable;
+
+/**
+ * Variant of {@link RangeCounter} for result sets exceeding the range of an
+ * {@link Integer}, e.g. audit-log or archive searches.
+ *
+ * <p>Computing the exact total of such result sets is often too expensive. The total
+ * count may therefore be an estimation, e.g. derived from index statistics, which is
+ * indicated by {@link #isTotalCountEstimated()}. Views are expected to render an
+ * estimated total accordingly, e.g. "about 3.2 billion".
+ *
+ * <p>Usage Example:
+ * <pre>
+ * LongRangeCounter counter = BaseLongRangeCounter.estimated(50L, 3_200_000_000L);
+ * if (counter.isTotalCountEstimated()) {
+ *     // render as approximation
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ * @see RangeCounter
+ */
+public interface LongRangeCounter extends Serializable {
+
+    /**
+     * @return the current count value, may be null if not set
+     */
+    Long getCount();
+
+    /**
+     * @return the total count value, may be null if not set. If
+     *         {@link #isTotalCountEstimated()} it is an approximation only.
+     */
+    Long getTotalCount();
+
+    /**
+     * @return {@code true} if the total count is available but only estimated,
+     *         {@code false} if it is exact or not available
+     */
+    boolean isTotalCountEstimated();
+
+    /**
+     * @return {@code true} if {@link #getCount()} returns a non-null value
+     */
+    boolean isCountAvailable();
+
+    /**
+     * @return {@code true} if {@link #getTotalCount()} returns a non-null value
+     */
+    boolean isTotalCountAvailable();
+
+    /**
+     * @return {@code true} if exactly one of count or total count is set
+     */
+    boolean isSingleValueOnly();
+
+    /**
+     * @return {@code true} if neither count nor total count is set
+     */
+    boolean isEmpty();
+
+    /**
+     * @return {@code true} if both count and total count are set, regardless of the
+     *         total count being estimated
+     */
+    boolean isComplete();
+}
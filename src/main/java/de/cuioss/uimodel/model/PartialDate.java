@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A possibly incomplete date, as found in historical records where only the year or
+ * year and month are known. Day, month and year are packed into a single {@code int},
+ * a component value of {@code 0} representing an unknown component.
+ *
+ * <p>Layout of the packed value:
+ * <ul>
+ *   <li>Bits 0-4: day, 1 to 31</li>
+ *   <li>Bits 5-8: month, 1 to 12</li>
+ *   <li>Bits 9-21: year, 1 to 4999</li>
+ * </ul>
+ * The natural order of the packed values is the chronological order, unknown
+ * components sorting before known ones. Code holding many dates can therefore work on
+ * plain {@code int[]} using {@link #pack(int, int, int)}, {@link #parsePacked(CharSequence)}
+ * and the static accessors, without creating instances at all.
+ *
+ * <p>Usage Examples:
+ * <pre>
+ * PartialDate date = PartialDate.parse("2020-??-15");
+ * date.isMonthKnown(); // false
+ * ConditionalInteger year = date.getYear(); // 2020
+ *
+ * int[] packed = new int[rows.size()];
+ * PartialDate.parseAll(rows, packed);
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+@EqualsAndHashCode
+public final class PartialDate implements Serializable, Comparable<PartialDate> {
+
+    @Serial
+    private static final long serialVersionUID = -2406823384529937428L;
+
+    /** Marker for an unknown component within the textual representation */
+    private static final char UNKNOWN_DIGIT = '?';
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int MONTH_SHIFT = DAY_BITS;
+    private static final int YEAR_SHIFT = DAY_BITS + MONTH_BITS;
+    private static final int DAY_MASK = (1 << DAY_BITS) - 1;
+    private static final int MONTH_MASK = (1 << MONTH_BITS) - 1;
+
+    /** Maximum year value, in line with {@link ConditionalInteger#createYearInstance(int)} */
+    private static final int MAX_YEAR = 4999;
+
+    /** Length of the textual representation "yyyy-MM-dd" */
+    private static final int TEXT_LENGTH = 10;
+
+    /** Instance with no known component. */
+    public static final PartialDate UNKNOWN = new PartialDate(0);
+
+    /**
+     * The packed representation of this date.
+     */
+    @Getter
+    private final int packed;
+
+    private PartialDate(final int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * @param year  1 to 4999, 0 if unknown
+     * @param month 1 to 12, 0 if unknown
+     * @param day   1 to 31, 0 if unknown
+     * @return the corresponding instance
+     * @throws IllegalArgumentException if a component is out of range or the day does
+     *                                  not exist within the given month
+     */
+    public static PartialDate of(final int year, final int month, final int day) {
+        return ofPacked(pack(year, month, day));
+    }
+
+    /**
+     * @param packed as created by {@link #pack(int, int, int)}
+     * @return the corresponding instance
+     * @throws IllegalArgumentException if the value is not a valid packed date
+     */
+    public static PartialDate ofPacked(final int packed) {
+        if (0 == packed) {
+            return UNKNOWN;
+        }
+        return new PartialDate(pack(year(packed), month(packed), day(packed)));
+    }
+
+    /**
+     * Creates an instance from the given {@link ConditionalInteger}s. Components being
+     * {@code null}, empty or not {@link ConditionalInteger#isValidAndInBound()} are
+     * considered unknown.
+     *
+     * @param year  may be null
+     * @param month may be null
+     * @param day   may be null
+     * @return the corresponding instance
+     * @throws IllegalArgumentException if the day does not exist within the given month
+     */
+    public static PartialDate of(final ConditionalInteger year, final ConditionalInteger month,
+            final ConditionalInteger day) {
+        return of(known(year, MAX_YEAR), known(month, 12), known(day, 31));
+    }
+
+    /**
+     * Packs the given components without creating an instance.
+     *
+     * @param year  1 to 4999, 0 if unknown
+     * @param month 1 to 12, 0 if unknown
+     * @param day   1 to 31, 0 if unknown
+     * @return the packed representation
+     * @throws IllegalArgumentException if a component is out of range or the day does
+     *                                  not exist within the given month
+     */
+    public static int pack(final int year, final int month, final int day) {
+        if (year < 0 || year > MAX_YEAR || month < 0 || month > 12 || day < 0 || day > maxDay(year, month)) {
+            throw new IllegalArgumentException(
+                    "Invalid partial date, year=%s, month=%s, day=%s".formatted(year, month, day));
+        }
+        return year << YEAR_SHIFT | month << MONTH_SHIFT | day;
+    }
+
+    /**
+     * @param packed as created by {@link #pack(int, int, int)}
+     * @return the year, 0 if unknown
+     */
+    public static int year(final int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    /**
+     * @param packed as created by {@link #pack(int, int, int)}
+     * @return the month, 0 if unknown
+     */
+    public static int month(final int packed) {
+        return packed >>> MONTH_SHIFT & MONTH_MASK;
+    }
+
+    /**
+     * @param packed as created by {@link #pack(int, int, int)}
+     * @return the day, 0 if unknown
+     */
+    public static int day(final int packed) {
+        return packed & DAY_MASK;
+    }
+
+    /**
+     * Parses the textual representation "yyyy-MM-dd", where each unknown component is
+     * given by question marks, e.g. "2020-??-15" or "????-05-??".
+     *
+     * @param text to be parsed, must not be null
+     * @return the corresponding instance
+     * @throws IllegalArgumentException if the text is malformed or denotes an invalid date
+     */
+    public static PartialDate parse(final CharSequence text) {
+        return ofPacked(parsePacked(text));
+    }
+
+    /**
+     * Variant of {@link #parse(CharSequence)} that does not create an instance.
+     *
+     * @param text to be parsed, must not be null
+     * @return the packed representation
+     * @throws IllegalArgumentException if the text is malformed or denotes an invalid date
+     */
+    public static int parsePacked(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        if (text.length() != TEXT_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            throw malformed(text);
+        }
+        final int year = parseComponent(text, 0, 4);
+        final int month = parseComponent(text, 5, 7);
+        final int day = parseComponent(text, 8, 10);
+        if (year == -2 || month == -2 || day == -2) {
+            throw malformed(text);
+        }
+        return pack(Math.max(year, 0), Math.max(month, 0), Math.max(day, 0));
+    }
+
+    /**
+     * Parses all given texts into the given array, starting at index 0.
+     *
+     * @param texts  to be parsed, must not be null
+     * @param target to be filled, must be at least as long as texts
+     * @throws IllegalArgumentException  if one of the texts is malformed or denotes an
+     *                                   invalid date
+     * @throws IndexOutOfBoundsException if target is too small
+     */
+    public static void parseAll(final List<? extends CharSequence> texts, final int[] target) {
+        Objects.checkFromIndexSize(0, texts.size(), target.length);
+        for (int i = 0; i < texts.size(); i++) {
+            target[i] = parsePacked(texts.get(i));
+        }
+    }
+
+    /**
+     * @return the year, {@link ConditionalInteger#EMPTY_INSTANCE} if unknown
+     */
+    public ConditionalInteger getYear() {
+        return isYearKnown() ? ConditionalInteger.createYearInstance(year(packed)) : ConditionalInteger.EMPTY_INSTANCE;
+    }
+
+    /**
+     * @return the month, {@link ConditionalInteger#EMPTY_INSTANCE} if unknown
+     */
+    public ConditionalInteger getMonth() {
+        return isMonthKnown() ? ConditionalInteger.createMonthInstance(month(packed))
+                : ConditionalInteger.EMPTY_INSTANCE;
+    }
+
+    /**
+     * @return the day, {@link ConditionalInteger#EMPTY_INSTANCE} if unknown
+     */
+    public ConditionalInteger getDay() {
+        return isDayKnown() ? ConditionalInteger.createDayInstance(day(packed)) : ConditionalInteger.EMPTY_INSTANCE;
+    }
+
+    /**
+     * @return {@code true} if the year is known
+     */
+    public boolean isYearKnown() {
+        return 0 != year(packed);
+    }
+
+    /**
+     * @return {@code true} if the month is known
+     */
+    public boolean isMonthKnown() {
+        return 0 != month(packed);
+    }
+
+    /**
+     * @return {@code true} if the day is known
+     */
+    public boolean isDayKnown() {
+        return 0 != day(packed);
+    }
+
+    /**
+     * @return {@code true} if all components are known
+     */
+    public boolean isComplete() {
+        return isYearKnown() && isMonthKnown() && isDayKnown();
+    }
+
+    @Override
+    public int compareTo(final PartialDate other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    /**
+     * @return the textual representation as accepted by {@link #parse(CharSequence)}
+     */
+    @Override
+    public String toString() {
+        final var builder = new StringBuilder(TEXT_LENGTH);
+        appendComponent(builder, year(packed), 4);
+        builder.append('-');
+        appendComponent(builder, month(packed), 2);
+        builder.append('-');
+        appendComponent(builder, day(packed), 2);
+        return builder.toString();
+    }
+
+    @Serial
+    private Object readResolve() {
+        return ofPacked(packed);
+    }
+
+    private static int maxDay(final int year, final int month) {
+        if (0 == month) {
+            return 31;
+        }
+        if (0 == year) {
+            return Month.of(month).maxLength();
+        }
+        return Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static int known(final ConditionalInteger value, final int max) {
+        if (null == value || !value.isValidAndInBound() || value.getContent() > max) {
+            return 0;
+        }
+        return value.getContent();
+    }
+
+    /**
+     * @return the parsed value, -1 if unknown, -2 if malformed
+     */
+    private static int parseComponent(final CharSequence text, final int from, final int to) {
+        if (text.charAt(from) == UNKNOWN_DIGIT) {
+            for (int i = from + 1; i < to; i++) {
+                if (text.charAt(i) != UNKNOWN_DIGIT) {
+                    return -2;
+                }
+            }
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -2;
+            }
+            result = result * 10 + digit;
+        }
+        if (0 == result) {
+            return -2;
+        }
+        return result;
+    }
+
+    private static void appendComponent(final StringBuilder builder, final int value, final int width) {
+        if (0 == value) {
+            builder.repeat(UNKNOWN_DIGIT, width);
+            return;
+        }
+        final String digits = Integer.toString(value);
+        builder.repeat('0', width - digits.length()).append(digits);
+    }
+
+    private static IllegalArgumentException malformed(final CharSequence text) {
+        return new IllegalArgumentException("Expected a partial date like '2020-??-15', but was '" + text + "'");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.LongRangeCounter;
+import de.cuioss.uimodel.model.RangeCounter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serial;
+
+/**
+ * Immutable default implementation of {@link LongRangeCounter}, the counterpart of
+ * {@link BaseRangeCounter}.
+ *
+ * <p>Usage Examples:
+ * <pre>
+ * // Exact counter
+ * BaseLongRangeCounter exact = new BaseLongRangeCounter(10L, 5_000_000_000L);
+ *
+ * // Total count taken from index statistics
+ * BaseLongRangeCounter estimated = BaseLongRangeCounter.estimated(10L, 3_200_000_000L);
+ *
+ * // Widening an existing RangeCounter
+ * BaseLongRangeCounter widened = new BaseLongRangeCounter(new BaseRangeCounter(10, 100));
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ * @see LongRangeCounter
+ */
+@ToString
+@EqualsAndHashCode
+public class BaseLongRangeCounter implements LongRangeCounter {
+
+    @Serial
+    private static final long serialVersionUID = 8190577457227425618L;
+
+    /** The current count value, may be null. */
+    @Getter
+    private final Long count;
+
+    /** The total count value, may be null. */
+    @Getter
+    private final Long totalCount;
+
+    /** Indicates the total count to be an approximation. */
+    @Getter
+    private final boolean totalCountEstimated;
+
+    /**
+     * @param count               may be null
+     * @param totalCount          may be null
+     * @param totalCountEstimated indicating whether totalCount is an approximation,
+     *                            ignored if totalCount is null
+     */
+    public BaseLongRangeCounter(final Long count, final Long totalCount, final boolean totalCountEstimated) {
+        this.count = count;
+        this.totalCount = totalCount;
+        this.totalCountEstimated = null != totalCount && totalCountEstimated;
+    }
+
+    /**
+     * Creates a counter with an exact total count.
+     *
+     * @param count      may be null
+     * @param totalCount may be null
+     */
+    public BaseLongRangeCounter(final Long count, final Long totalCount) {
+        this(count, totalCount, false);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param rangeCounter to be copied, must not be null
+     */
+    public BaseLongRangeCounter(final LongRangeCounter rangeCounter) {
+        this(rangeCounter.getCount(), rangeCounter.getTotalCount(), rangeCounter.isTotalCountEstimated());
+    }
+
+    /**
+     * Widens the given {@link RangeCounter}, the total count being exact.
+     *
+     * @param rangeCounter to be copied, must not be null
+     */
+    public BaseLongRangeCounter(final RangeCounter rangeCounter) {
+        this(toLong(rangeCounter.getCount()), toLong(rangeCounter.getTotalCount()), false);
+    }
+
+    /**
+     * @param count          may be null
+     * @param estimatedTotal the estimated total count
+     * @return a counter flagged as {@link #isTotalCountEstimated()}
+     */
+    public static BaseLongRangeCounter estimated(final Long count, final long estimatedTotal) {
+        return new BaseLongRangeCounter(count, estimatedTotal, true);
+    }
+
+    @Override
+    public boolean isCountAvailable() {
+        return null != count;
+    }
+
+    @Override
+    public boolean isTotalCountAvailable() {
+        return null != totalCount;
+    }
+
+    @Override
+    public boolean isSingleValueOnly() {
+        return !isEmpty() && !isComplete();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == null && totalCount == null;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return count != null && totalCount != null;
+    }
+
+    private static Long toLong(final Integer value) {
+        return null == value ? null : value.longValue();
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.ErasableItem;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * List of {@link ErasableItem}s tracking the deletion state of its items within a
+ * {@link BitSet}. Counting deleted items is constant in time, bulk operations only
+ * touch the items whose state actually changes, and {@link #partition(boolean)}
+ * separates surviving and deleted items in a single sweep.
+ *
+ * <p>The items are kept in sync: Every state change made through this list is applied
+ * to the item as well. Changes made directly on an item are not noticed by the list.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ErasableItemList&lt;Row&gt; rows = new ErasableItemList&lt;&gt;(loadedRows);
+ * rows.markAllAsDeleted();
+ * rows.setMarkedAsDeleted(3, false);
+ * ErasableItemList.Partition&lt;Row&gt; result = rows.partition(true);
+ * save(result.surviving());
+ * </pre>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author Oliver Wolff
+ * @param <T> the type of the items
+ * @since 2.5
+ */
+@ToString(of = {"items", "deleted"})
+public class ErasableItemList<T extends ErasableItem> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4197163573532616434L;
+
+    /** Number of items handled per task by a parallel partition, a multiple of 64. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Result of {@link #partition(boolean)}, both lists preserving the order of the
+     * items.
+     *
+     * @param surviving the items not marked as deleted
+     * @param deleted   the items marked as deleted
+     * @param <T>       the type of the items
+     */
+    public record Partition<T>(List<T> surviving, List<T> deleted) {
+    }
+
+    private final ArrayList<T> items;
+
+    private final BitSet deleted;
+
+    private int deletedCount;
+
+    /**
+     * Creates an empty list.
+     */
+    public ErasableItemList() {
+        items = new ArrayList<>();
+        deleted = new BitSet();
+    }
+
+    /**
+     * @param items to be managed, must not be null nor contain null elements. Their
+     *              current deletion state is taken over.
+     */
+    public ErasableItemList(@NonNull final Collection<T> items) {
+        this.items = new ArrayList<>(items);
+        deleted = new BitSet(this.items.size());
+        for (int i = 0; i < this.items.size(); i++) {
+            if (this.items.get(i).isMarkedAsDeleted()) {
+                deleted.set(i);
+            }
+        }
+        deletedCount = deleted.cardinality();
+    }
+
+    /**
+     * @param item to be appended, must not be null. Its current deletion state is
+     *             taken over.
+     */
+    public void add(@NonNull final T item) {
+        if (item.isMarkedAsDeleted()) {
+            deleted.set(items.size());
+            deletedCount++;
+        }
+        items.add(item);
+    }
+
+    /**
+     * @param index of the item
+     * @return the item
+     */
+    public T get(final int index) {
+        return items.get(index);
+    }
+
+    /**
+     * @return an unmodifiable view on all items
+     */
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * @return the number of items
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * @return the number of items marked as deleted
+     */
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * @return the number of items not marked as deleted
+     */
+    public int getSurvivingCount() {
+        return items.size() - deletedCount;
+    }
+
+    /**
+     * @param index of the item
+     * @return {@code true} if the item is marked as deleted
+     */
+    public boolean isMarkedAsDeleted(final int index) {
+        return deleted.get(checkIndex(index));
+    }
+
+    /**
+     * @param index of the item to be toggled
+     */
+    public void toggleDeleteFlag(final int index) {
+        setMarkedAsDeleted(index, !isMarkedAsDeleted(index));
+    }
+
+    /**
+     * @param index         of the item
+     * @param markAsDeleted the new state
+     */
+    public void setMarkedAsDeleted(final int index, final boolean markAsDeleted) {
+        if (isMarkedAsDeleted(index) != markAsDeleted) {
+            flip(index);
+        }
+    }
+
+    /**
+     * Sets the state of the items within the given range.
+     *
+     * @param fromIndex     inclusive
+     * @param toIndex       exclusive
+     * @param markAsDeleted the new state
+     */
+    public void setMarkedAsDeleted(final int fromIndex, final int toIndex, final boolean markAsDeleted) {
+        checkRange(fromIndex, toIndex);
+        if (markAsDeleted) {
+            for (int i = deleted.nextClearBit(fromIndex); i < toIndex; i = deleted.nextClearBit(i + 1)) {
+                flip(i);
+            }
+        } else {
+            for (int i = deleted.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = deleted.nextSetBit(i + 1)) {
+                flip(i);
+            }
+        }
+    }
+
+    /** Marks all items as deleted. */
+    public void markAllAsDeleted() {
+        setMarkedAsDeleted(0, items.size(), true);
+    }
+
+    /** Removes the deletion mark from all items. */
+    public void restoreAll() {
+        setMarkedAsDeleted(0, items.size(), false);
+    }
+
+    /** Toggles the deletion mark of all items. */
+    public void toggleAll() {
+        items.forEach(ErasableItem::toggleDeleteFlag);
+        deleted.flip(0, items.size());
+        deletedCount = items.size() - deletedCount;
+    }
+
+    /**
+     * Separates surviving and deleted items in a single sweep.
+     *
+     * @param parallel whether the sweep should be split into parallel tasks, only
+     *                 worthwhile for large lists
+     * @return the partition, with unmodifiable lists
+     */
+    @SuppressWarnings("unchecked")
+    public Partition<T> partition(final boolean parallel) {
+        final var surviving = new Object[getSurvivingCount()];
+        final var removed = new Object[deletedCount];
+        final int chunks = (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var deletedBefore = new int[chunks];
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            final int from = (chunk - 1) * CHUNK_SIZE;
+            deletedBefore[chunk] = deletedBefore[chunk - 1] + deleted.get(from, from + CHUNK_SIZE).cardinality();
+        }
+        var stream = IntStream.range(0, chunks);
+        if (parallel) {
+            stream = stream.parallel();
+        }
+        stream.forEach(chunk -> {
+            final int from = chunk * CHUNK_SIZE;
+            final int to = Math.min(from + CHUNK_SIZE, items.size());
+            int deletedIndex = deletedBefore[chunk];
+            int survivingIndex = from - deletedIndex;
+            for (int i = from; i < to; i++) {
+                if (deleted.get(i)) {
+                    removed[deletedIndex++] = items.get(i);
+                } else {
+                    surviving[survivingIndex++] = items.get(i);
+                }
+            }
+        });
+        return new Partition<>((List<T>) (List<?>) Collections.unmodifiableList(Arrays.asList(surviving)),
+                (List<T>) (List<?>) Collections.unmodifiableList(Arrays.asList(removed)));
+    }
+
+    /**
+     * Removes all items marked as deleted from this list.
+     *
+     * @return the removed items in their former order
+     */
+    public List<T> compact() {
+        final var partition = partition(false);
+        items.clear();
+        items.addAll(partition.surviving());
+        deleted.clear();
+        deletedCount = 0;
+        return partition.deleted();
+    }
+
+    private void flip(final int index) {
+        items.get(index).toggleDeleteFlag();
+        deleted.flip(index);
+        deletedCount += deleted.get(index) ? 1 : -1;
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= items.size()) {
+            throw new IndexOutOfBoundsException("Index %s out of bounds for size %s".formatted(index, items.size()));
+        }
+        return index;
+    }
+
+    private void checkRange(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > items.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [%s, %s) out of bounds for size %s".formatted(fromIndex, toIndex, items.size()));
+        }
+    }
+}
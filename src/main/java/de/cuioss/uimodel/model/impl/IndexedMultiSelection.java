@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.TypedSelection;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-selection over an {@link OptionCatalog}, storing the indexes of the selected
+ * options within a {@link BitSet}. Membership checks are therefore constant in time,
+ * selecting all and inverting the selection work on whole words.
+ *
+ * <p>The selection state can be stored compactly by {@link #toByteArray()} and
+ * restored by {@link #restore(byte[])}, e.g. for keeping it within the session. The
+ * bytes are only meaningful for the same catalog. Java serialization writes the
+ * catalog together with the selection, so a selection can be deserialized by any VM.
+ * Selections sharing a catalog keep sharing it if they are written to the same stream,
+ * e.g. as part of the same session.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * OptionCatalog&lt;ConceptKeyType&gt; catalog = new OptionCatalog&lt;&gt;("diagnoses", diagnoses);
+ * IndexedMultiSelection&lt;ConceptKeyType&gt; selection = new IndexedMultiSelection&lt;&gt;(catalog);
+ * selection.select(diagnosis);
+ * for (ConceptKeyType option : catalog.getOptions()) {
+ *     render(option, selection.isSelected(option));
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @param <T> the type of the options
+ * @since 2.5
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class IndexedMultiSelection<T extends Serializable> implements TypedSelection<List<T>>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2384720733063473766L;
+
+    /** The catalog the selection refers to. */
+    @Getter
+    private final OptionCatalog<T> catalog;
+
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private final BitSet selected;
+
+    /**
+     * Creates an empty selection.
+     *
+     * @param catalog to select from, must not be null
+     */
+    public IndexedMultiSelection(@NonNull final OptionCatalog<T> catalog) {
+        this.catalog = catalog;
+        selected = new BitSet(catalog.size());
+    }
+
+    /**
+     * @param option to be checked, may be null
+     * @return {@code true} if the given option is selected
+     */
+    public boolean isSelected(final T option) {
+        final int index = catalog.indexOf(option);
+        return index >= 0 && selected.get(index);
+    }
+
+    /**
+     * @param index of the option to be checked
+     * @return {@code true} if the option at the given index is selected
+     */
+    public boolean isSelected(final int index) {
+        return selected.get(checkIndex(index));
+    }
+
+    /**
+     * @param option to be selected, must be part of the catalog
+     * @throws IllegalArgumentException if the option is not part of the catalog
+     */
+    public void select(final T option) {
+        selected.set(requireIndex(option));
+    }
+
+    /**
+     * @param option to be deselected, must be part of the catalog
+     * @throws IllegalArgumentException if the option is not part of the catalog
+     */
+    public void deselect(final T option) {
+        selected.clear(requireIndex(option));
+    }
+
+    /**
+     * @param option to be toggled, must be part of the catalog
+     * @return {@code true} if the option is selected afterwards
+     * @throws IllegalArgumentException if the option is not part of the catalog
+     */
+    public boolean toggle(final T option) {
+        final int index = requireIndex(option);
+        selected.flip(index);
+        return selected.get(index);
+    }
+
+    /**
+     * @param index    of the option
+     * @param selected whether the option is to be selected
+     */
+    public void setSelected(final int index, final boolean selected) {
+        this.selected.set(checkIndex(index), selected);
+    }
+
+    /** Selects all options of the catalog. */
+    public void selectAll() {
+        selected.set(0, catalog.size());
+    }
+
+    /** Deselects all options. */
+    public void clear() {
+        selected.clear();
+    }
+
+    /** Inverts the selection. */
+    public void invert() {
+        selected.flip(0, catalog.size());
+    }
+
+    /**
+     * @return the number of selected options
+     */
+    public int getSelectedCount() {
+        return selected.cardinality();
+    }
+
+    /**
+     * @return the indexes of the selected options in ascending order
+     */
+    public IntStream selectedIndexes() {
+        return selected.stream();
+    }
+
+    /**
+     * @return the selected options in catalog order, never null
+     */
+    @Override
+    public List<T> getSelectedValue() {
+        final List<T> result = new ArrayList<>(selected.cardinality());
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            result.add(catalog.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return the compact representation of the selection state
+     * @see #restore(byte[])
+     */
+    public byte[] toByteArray() {
+        return selected.toByteArray();
+    }
+
+    /**
+     * Replaces the selection state by the given one.
+     *
+     * @param state as created by {@link #toByteArray()}, must not be null
+     * @throws IllegalArgumentException if the state refers to options beyond the catalog
+     */
+    public void restore(@NonNull final byte[] state) {
+        final var restored = BitSet.valueOf(state);
+        if (restored.length() > catalog.size()) {
+            throw new IllegalArgumentException(
+                    "State refers to index %s, but catalog has only %s options".formatted(restored.length() - 1,
+                            catalog.size()));
+        }
+        selected.clear();
+        selected.or(restored);
+    }
+
+    @ToString.Include(name = "catalog", rank = 1)
+    @EqualsAndHashCode.Include
+    private String catalogId() {
+        return catalog.getId();
+    }
+
+    private int requireIndex(final T option) {
+        final int index = catalog.indexOf(option);
+        if (index < 0) {
+            throw new IllegalArgumentException("Option is not part of the catalog: " + option);
+        }
+        return index;
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= catalog.size()) {
+            throw new IndexOutOfBoundsException("Index %s out of bounds for %s options".formatted(index,
+                    catalog.size()));
+        }
+        return index;
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        if (null == catalog || null == selected || selected.length() > catalog.size()) {
+            throw new InvalidObjectException("Selection does not match its catalog");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.RangeCounter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Mutable {@link RangeCounter} for results being streamed: Producer threads update the
+ * count while the results arrive, the total count is set as soon as it is known.
+ *
+ * <p>Count and total count are packed into a single {@link AtomicLong}. Updates are
+ * therefore lock-free and every read, as well as {@link #snapshot()}, observes a
+ * consistent pair of values.
+ *
+ * <p>Listeners registered by {@link #onThreshold(int, IntConsumer)} are notified on the
+ * updating thread whenever the count crosses a multiple of their step, allowing e.g.
+ * paginators to render before the total count is known:
+ * <pre>
+ * LiveRangeCounter counter = new LiveRangeCounter();
+ * counter.onThreshold(1000, count -&gt; paginator.refresh());
+ * results.forEach(r -&gt; counter.increment());
+ * counter.complete();
+ * </pre>
+ *
+ * <p>Serializing an instance serializes its {@link #snapshot()}.
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+public class LiveRangeCounter implements RangeCounter {
+
+    @Serial
+    private static final long serialVersionUID = -5606409575203283489L;
+
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private final AtomicLong state = new AtomicLong(pack(PrimitiveRangeCounter.NOT_AVAILABLE,
+            PrimitiveRangeCounter.NOT_AVAILABLE));
+
+    private final transient List<Threshold> thresholds = new CopyOnWriteArrayList<>();
+
+    /**
+     * Increments the count by one.
+     *
+     * @return the new count
+     */
+    public int increment() {
+        return add(1);
+    }
+
+    /**
+     * Adds the given delta to the count. An unavailable count is treated as 0.
+     *
+     * @param delta to be added, must not be negative
+     * @return the new count
+     * @throws ArithmeticException if the count overflows an {@code int}
+     */
+    public int add(final int delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Delta must not be negative, but was " + delta);
+        }
+        long current;
+        long updated;
+        int previous;
+        int next;
+        do {
+            current = state.get();
+            previous = Math.max(count(current), 0);
+            next = Math.addExact(previous, delta);
+            updated = pack(next, totalCount(current));
+        } while (!state.compareAndSet(current, updated));
+        notifyThresholds(previous, next);
+        return next;
+    }
+
+    /**
+     * @param totalCount the total count, negative values resetting it to not available
+     */
+    public void setTotalCount(final int totalCount) {
+        final int total = Math.max(totalCount, PrimitiveRangeCounter.NOT_AVAILABLE);
+        state.updateAndGet(current -> pack(count(current), total));
+    }
+
+    /**
+     * Marks the stream as finished by setting the total count to the current count.
+     * An unavailable count is treated as 0.
+     *
+     * @return the resulting snapshot
+     */
+    public PrimitiveRangeCounter complete() {
+        return unpack(state.updateAndGet(current -> {
+            final int count = Math.max(count(current), 0);
+            return pack(count, count);
+        }));
+    }
+
+    /**
+     * Registers a listener to be notified whenever the count reaches or passes a
+     * multiple of the given step. A single update passing several multiples notifies
+     * only once.
+     *
+     * @param step     the step, must be positive
+     * @param listener receiving the new count, must not be null. It is called on the
+     *                 updating thread and should therefore return quickly.
+     */
+    public void onThreshold(final int step, final @NonNull IntConsumer listener) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be positive, but was " + step);
+        }
+        thresholds.add(new Threshold(step, listener));
+    }
+
+    /**
+     * @return a consistent, immutable copy of the current values
+     */
+    public PrimitiveRangeCounter snapshot() {
+        return unpack(state.get());
+    }
+
+    @Override
+    public Integer getCount() {
+        return snapshot().getCount();
+    }
+
+    @Override
+    public Integer getTotalCount() {
+        return snapshot().getTotalCount();
+    }
+
+    @Override
+    public boolean isCountAvailable() {
+        return PrimitiveRangeCounter.NOT_AVAILABLE != count(state.get());
+    }
+
+    @Override
+    public boolean isTotalCountAvailable() {
+        return PrimitiveRangeCounter.NOT_AVAILABLE != totalCount(state.get());
+    }
+
+    @Override
+    public boolean isSingleValueOnly() {
+        return snapshot().isSingleValueOnly();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot().isEmpty();
+    }
+
+    @Override
+    public boolean isComplete() {
+        return snapshot().isComplete();
+    }
+
+    @Override
+    public String toString() {
+        return "LiveRangeCounter(" + snapshot() + ")";
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return snapshot();
+    }
+
+    private void notifyThresholds(final int previous, final int next) {
+        for (final Threshold threshold : thresholds) {
+            if (previous / threshold.step() != next / threshold.step()) {
+                threshold.listener().accept(next);
+            }
+        }
+    }
+
+    private static long pack(final int count, final int totalCount) {
+        return (long) totalCount << 32 | count & LOW_MASK;
+    }
+
+    private static int count(final long packed) {
+        return (int) packed;
+    }
+
+    private static int totalCount(final long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static PrimitiveRangeCounter unpack(final long packed) {
+        return new PrimitiveRangeCounter(count(packed), totalCount(packed));
+    }
+
+    private record Threshold(int step, IntConsumer listener) {
+    }
+}
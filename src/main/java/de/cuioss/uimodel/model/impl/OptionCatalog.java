@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, ordered set of options assigning each option a stable index. Intended to
+ * be created once per option set and shared between the
+ * {@link IndexedMultiSelection}s referring to it.
+ *
+ * <p>Each catalog carries an id, e.g. the name of the underlying code list, used for
+ * cheaply telling catalogs apart in the equality and string representation of
+ * {@link IndexedMultiSelection}s. The id is not required to be unique, an updated
+ * option set may therefore be created under the same id at any time.
+ *
+ * @author Oliver Wolff
+ * @param <T> the type of the options, must provide proper equals / hashCode
+ * @since 2.5
+ */
+@ToString(of = "id")
+@EqualsAndHashCode(of = {"id", "options"})
+public final class OptionCatalog<T extends Serializable> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6375232919432069211L;
+
+    /** Identifies the catalog, e.g. the name of the underlying code list. */
+    @Getter
+    private final String id;
+
+    /** The options in index order. */
+    @Getter
+    @SuppressWarnings("serial") // List.copyOf returns a serializable list
+    private final List<T> options;
+
+    /** Index of the options, rebuilt on deserialization. */
+    private final transient Map<T, Integer> indexes;
+
+    /**
+     * @param id      identifying the catalog, must not be null
+     * @param options to be indexed in iteration order, must not be null nor contain
+     *                null or duplicate elements
+     * @throws IllegalArgumentException if an option is contained more than once
+     */
+    public OptionCatalog(@NonNull final String id, @NonNull final Collection<T> options) {
+        this.id = id;
+        this.options = List.copyOf(options);
+        indexes = HashMap.newHashMap(this.options.size());
+        for (int i = 0; i < this.options.size(); i++) {
+            if (null != indexes.put(this.options.get(i), i)) {
+                throw new IllegalArgumentException("Duplicate option: " + this.options.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return the number of options
+     */
+    public int size() {
+        return options.size();
+    }
+
+    /**
+     * @param index of the option
+     * @return the option at the given index
+     * @throws IndexOutOfBoundsException if there is no such option
+     */
+    public T get(final int index) {
+        return options.get(index);
+    }
+
+    /**
+     * @param option to be looked up, may be null
+     * @return the index of the given option, -1 if it is not part of this catalog
+     */
+    public int indexOf(final T option) {
+        if (null == option) {
+            return -1;
+        }
+        final Integer index = indexes.get(option);
+        return null == index ? -1 : index;
+    }
+
+    @Serial
+    private Object readResolve() throws ObjectStreamException {
+        if (null == id || null == options) {
+            throw new InvalidObjectException("Catalog requires id and options");
+        }
+        try {
+            return new OptionCatalog<>(id, options);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.model.RangeCounter;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Paged view on a possibly huge result set, pairing a {@link RangeCounter} with the
+ * page data. Pages are loaded lazily by a {@link PageLoader} and only a bounded window
+ * of recently used pages is kept, so memory consumption is independent of the size of
+ * the result set.
+ *
+ * <p>Each page is a {@link ResultObject}, so a single page may fail without affecting
+ * the others. Pages in a state {@link ResultState#MUST_BE_HANDLED} are not cached and
+ * will be loaded again on the next access.
+ *
+ * <p>If a prefetch executor is configured, accessing a page triggers asynchronous
+ * loading of the following page. Concurrent requests for the same page share a single
+ * load. Every request receives its own copy of the page, see {@link ResultObject#copy()},
+ * as each caller has to handle it. A {@link PageLoader} requesting the page it is
+ * loading would wait for itself, such a recursive request fails with an
+ * {@link IllegalStateException} instead.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * PagedResult&lt;Patient&gt; patients = PagedResult.&lt;Patient&gt;builder()
+ *         .pageLoader((index, size) -&gt; service.search(query, index * size, size))
+ *         .rangeCounter(counter)
+ *         .pageSize(50)
+ *         .prefetchExecutor(executor)
+ *         .build();
+ * ResultObject&lt;List&lt;Patient&gt;&gt; firstPage = patients.getPage(0);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @param <T> the type of the elements
+ * @since 2.5
+ */
+public class PagedResult<T> {
+
+    private static final CuiLogger LOGGER = new CuiLogger(PagedResult.class);
+
+    /** Page size used if none is configured. */
+    public static final int DEFAULT_PAGE_SIZE = 25;
+
+    /** Number of cached pages used if none is configured. */
+    public static final int DEFAULT_MAX_CACHED_PAGES = 3;
+
+    /**
+     * Loads a single page of the result set.
+     *
+     * @param <T> the type of the elements
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+
+        /**
+         * @param pageIndex zero based index of the page
+         * @param pageSize  the number of elements per page
+         * @return the page, must not be null
+         */
+        ResultObject<List<T>> loadPage(int pageIndex, int pageSize);
+    }
+
+    private final PageLoader<T> pageLoader;
+
+    /** Counter for the complete result set. */
+    @Getter
+    private final RangeCounter rangeCounter;
+
+    /** The number of elements per page. */
+    @Getter
+    private final int pageSize;
+
+    /** The maximum number of pages kept in memory. */
+    @Getter
+    private final int maxCachedPages;
+
+    private final Executor prefetchExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Integer, ResultObject<List<T>>> cache;
+
+    private final Map<Integer, Load> inFlight = new HashMap<>();
+
+    /** Incremented by {@link #invalidate()}, guarded by {@link #lock}. */
+    private long generation;
+
+    /**
+     * @param pageLoader       loading the pages, must not be null
+     * @param rangeCounter     counter for the complete result set, must not be null.
+     *                         Pages beyond its total count are not prefetched.
+     * @param pageSize         the number of elements per page, defaults to
+     *                         {@link #DEFAULT_PAGE_SIZE}
+     * @param maxCachedPages   the maximum number of pages kept in memory, defaults to
+     *                         {@link #DEFAULT_MAX_CACHED_PAGES}
+     * @param prefetchExecutor used for prefetching, if null prefetching is disabled
+     */
+    @Builder
+    public PagedResult(@NonNull final PageLoader<T> pageLoader, @NonNull final RangeCounter rangeCounter,
+            final Integer pageSize, final Integer maxCachedPages, final Executor prefetchExecutor) {
+        this.pageLoader = pageLoader;
+        this.rangeCounter = rangeCounter;
+        this.pageSize = requirePositive(pageSize, DEFAULT_PAGE_SIZE, "pageSize");
+        this.maxCachedPages = requirePositive(maxCachedPages, DEFAULT_MAX_CACHED_PAGES, "maxCachedPages");
+        this.prefetchExecutor = prefetchExecutor;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, ResultObject<List<T>>> eldest) {
+                return size() > PagedResult.this.maxCachedPages;
+            }
+        };
+    }
+
+    /**
+     * Returns the requested page, loading it if it is not cached, and triggers the
+     * prefetch of the following page. Concurrent calls for a page that is not cached
+     * share a single load, regardless of whether it was started by a prefetch or by
+     * another call of this method.
+     *
+     * @param pageIndex zero based index of the page
+     * @return a copy of the page
+     * @throws IllegalArgumentException if pageIndex is negative
+     * @throws IllegalStateException    if called by the {@link PageLoader} for the page
+     *                                  it is loading
+     */
+    public ResultObject<List<T>> getPage(final int pageIndex) {
+        checkPageIndex(pageIndex);
+        ResultObject<List<T>> page = null;
+        while (null == page) {
+            Load pending = null;
+            Load own = null;
+            lock.lock();
+            try {
+                page = cache.get(pageIndex);
+                if (null == page) {
+                    pending = inFlight.get(pageIndex);
+                    if (null == pending) {
+                        own = new Load(generation, Thread.currentThread());
+                        inFlight.put(pageIndex, own);
+                    } else if (pending.owner == Thread.currentThread()) {
+                        throw new IllegalStateException("Recursive load of page " + pageIndex);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (null != own) {
+                page = loadInto(pageIndex, own);
+            } else if (null != pending) {
+                // A failed load is retried, by then registered by one of the waiting callers
+                page = await(pageIndex, pending);
+            }
+        }
+        prefetchNext(pageIndex);
+        return page.copy();
+    }
+
+    /**
+     * Loads the given page asynchronously, unless it is cached or already being
+     * loaded.
+     *
+     * @param pageIndex zero based index of the page
+     * @return the future copy of the page. It completes exceptionally if no prefetch
+     *         executor is configured or the loading failed.
+     * @throws IllegalArgumentException if pageIndex is negative
+     */
+    public CompletableFuture<ResultObject<List<T>>> prefetch(final int pageIndex) {
+        checkPageIndex(pageIndex);
+        final Load load;
+        lock.lock();
+        try {
+            final var cached = cache.get(pageIndex);
+            if (null != cached) {
+                return CompletableFuture.completedFuture(cached.copy());
+            }
+            final var pending = inFlight.get(pageIndex);
+            if (null != pending) {
+                return pending.result.thenApply(ResultObject::copy);
+            }
+            if (null == prefetchExecutor) {
+                return CompletableFuture.failedFuture(new IllegalStateException("No prefetch executor configured"));
+            }
+            load = new Load(generation, null);
+            inFlight.put(pageIndex, load);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            prefetchExecutor.execute(() -> prefetchInto(pageIndex, load));
+        } catch (RejectedExecutionException e) {
+            complete(pageIndex, load, null, e);
+        }
+        return load.result.thenApply(ResultObject::copy);
+    }
+
+    /**
+     * @return the number of pages, derived from the total count of the
+     *         {@link RangeCounter}, empty if the total count is not available
+     */
+    public OptionalInt getPageCount() {
+        if (!rangeCounter.isTotalCountAvailable()) {
+            return OptionalInt.empty();
+        }
+        final int total = rangeCounter.getTotalCount();
+        return OptionalInt.of(total / pageSize + (total % pageSize == 0 ? 0 : 1));
+    }
+
+    /**
+     * @param pageIndex zero based index of the page
+     * @return {@code true} if the page is within the known page count or the page
+     *         count is not known
+     */
+    public boolean hasPage(final int pageIndex) {
+        final var pageCount = getPageCount();
+        return pageIndex >= 0 && (pageCount.isEmpty() || pageIndex < pageCount.getAsInt());
+    }
+
+    /**
+     * @return the number of pages currently kept in memory
+     */
+    public int getCachedPageCount() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops all cached pages, e.g. after the underlying data changed. Loads currently
+     * in progress still complete for the callers already waiting for them, but their
+     * pages are neither cached nor shared with later calls.
+     */
+    public void invalidate() {
+        lock.lock();
+        try {
+            generation++;
+            cache.clear();
+            inFlight.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ResultObject<List<T>> load(final int pageIndex, final Load load) {
+        final var page = pageLoader.loadPage(pageIndex, pageSize);
+        if (!ResultState.MUST_BE_HANDLED.contains(page.getState())) {
+            lock.lock();
+            try {
+                if (load.generation == generation) {
+                    cache.put(pageIndex, page);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return page;
+    }
+
+    private ResultObject<List<T>> loadInto(final int pageIndex, final Load load) {
+        final ResultObject<List<T>> page;
+        try {
+            page = load(pageIndex, load);
+        } catch (RuntimeException | Error e) {
+            complete(pageIndex, load, null, e);
+            throw e;
+        }
+        complete(pageIndex, load, page, null);
+        return page;
+    }
+
+    private void prefetchInto(final int pageIndex, final Load load) {
+        load.owner = Thread.currentThread();
+        try {
+            loadInto(pageIndex, load);
+        } catch (RuntimeException e) {
+            // already propagated to the future
+        }
+    }
+
+    private void complete(final int pageIndex, final Load load, final ResultObject<List<T>> page,
+            final Throwable failure) {
+        lock.lock();
+        try {
+            inFlight.remove(pageIndex, load);
+        } finally {
+            lock.unlock();
+        }
+        if (null == failure) {
+            load.result.complete(page);
+        } else {
+            LOGGER.debug(failure, "Loading page %s failed", pageIndex);
+            load.result.completeExceptionally(failure);
+        }
+    }
+
+    private ResultObject<List<T>> await(final int pageIndex, final Load pending) {
+        try {
+            return pending.result.join();
+        } catch (CompletionException | CancellationException e) {
+            LOGGER.debug(e, "Pending load of page %s failed, loading again", pageIndex);
+            return null;
+        }
+    }
+
+    private void prefetchNext(final int pageIndex) {
+        if (null != prefetchExecutor && pageIndex < Integer.MAX_VALUE && hasPage(pageIndex + 1)) {
+            prefetch(pageIndex + 1);
+        }
+    }
+
+    private static void checkPageIndex(final int pageIndex) {
+        if (pageIndex < 0) {
+            throw new IllegalArgumentException("Page index must not be negative, but was " + pageIndex);
+        }
+    }
+
+    private static int requirePositive(final Integer value, final int defaultValue, final String name) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, but was " + value);
+        }
+        return value;
+    }
+
+    /** A load in progress, completed by the thread running it. */
+    private final class Load {
+
+        private final CompletableFuture<ResultObject<List<T>>> result = new CompletableFuture<>();
+
+        /** The generation the load was started in. */
+        private final long generation;
+
+        /** The thread running the load, null while a prefetch is queued. */
+        private volatile Thread owner;
+
+        Load(final long generation, final Thread owner) {
+            this.generation = generation;
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.RangeCounter;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serial;
+
+/**
+ * {@link RangeCounter} backed by primitive {@code int} values, using
+ * {@link #NOT_AVAILABLE} instead of {@code null} for missing values. Use the
+ * {@code AsInt} accessors and {@link #merge(PrimitiveRangeCounter)} to work with the
+ * values without boxing.
+ *
+ * <p>As {@link #NOT_AVAILABLE} is encoded as a negative value, counts are
+ * non-negative by definition: any negative value passed to the constructor, e.g. a
+ * backend returning {@code -5}, is treated as not available instead of being rejected.
+ *
+ * <p>Merging is meant for combining the partial counters of parallel backend queries:
+ * Each value is summed up and is only available if it is available on both sides.
+ * {@link #ZERO} is the identity of the merge operation:
+ * <pre>
+ * PrimitiveRangeCounter total = shardCounters.stream()
+ *         .reduce(PrimitiveRangeCounter.ZERO, PrimitiveRangeCounter::merge);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ * @see RangeCounterAccumulator
+ */
+@ToString
+@EqualsAndHashCode
+public final class PrimitiveRangeCounter implements RangeCounter {
+
+    @Serial
+    private static final long serialVersionUID = 2262359128003003736L;
+
+    /** Value representing a count that is not available. */
+    public static final int NOT_AVAILABLE = -1;
+
+    /** Counter without any values. */
+    public static final PrimitiveRangeCounter EMPTY = new PrimitiveRangeCounter(NOT_AVAILABLE, NOT_AVAILABLE);
+
+    /** Counter with both values being 0, the identity for {@link #merge(PrimitiveRangeCounter)}. */
+    public static final PrimitiveRangeCounter ZERO = new PrimitiveRangeCounter(0, 0);
+
+    private final int count;
+
+    private final int totalCount;
+
+    /**
+     * Creates a counter from primitive values. Every negative value, not only
+     * {@link #NOT_AVAILABLE}, is clamped to {@link #NOT_AVAILABLE}, therefore
+     * {@code new PrimitiveRangeCounter(-5, 3).getCount()} returns {@code null}.
+     *
+     * @param count      the current count, any negative value resulting in
+     *                   {@link #NOT_AVAILABLE}
+     * @param totalCount the total count, any negative value resulting in
+     *                   {@link #NOT_AVAILABLE}
+     */
+    public PrimitiveRangeCounter(final int count, final int totalCount) {
+        this.count = Math.max(count, NOT_AVAILABLE);
+        this.totalCount = Math.max(totalCount, NOT_AVAILABLE);
+    }
+
+    /**
+     * Copy constructor. Negative values of the given counter are clamped to
+     * {@link #NOT_AVAILABLE}, see {@link #PrimitiveRangeCounter(int, int)}.
+     *
+     * @param rangeCounter the counter to copy from, must not be null
+     * @throws NullPointerException if rangeCounter is null
+     */
+    public PrimitiveRangeCounter(final RangeCounter rangeCounter) {
+        this(rangeCounter.isCountAvailable() ? rangeCounter.getCount() : NOT_AVAILABLE,
+                rangeCounter.isTotalCountAvailable() ? rangeCounter.getTotalCount() : NOT_AVAILABLE);
+    }
+
+    /**
+     * @param rangeCounter to be copied, must not be null
+     * @return the given counter, if it already is a {@link PrimitiveRangeCounter}, a
+     *         copy otherwise
+     */
+    public static PrimitiveRangeCounter of(final RangeCounter rangeCounter) {
+        if (rangeCounter instanceof PrimitiveRangeCounter primitive) {
+            return primitive;
+        }
+        return new PrimitiveRangeCounter(rangeCounter);
+    }
+
+    /**
+     * @return the current count, {@link #NOT_AVAILABLE} if not available
+     */
+    public int getCountAsInt() {
+        return count;
+    }
+
+    /**
+     * @return the total count, {@link #NOT_AVAILABLE} if not available
+     */
+    public int getTotalCountAsInt() {
+        return totalCount;
+    }
+
+    @Override
+    public Integer getCount() {
+        return isCountAvailable() ? count : null;
+    }
+
+    @Override
+    public Integer getTotalCount() {
+        return isTotalCountAvailable() ? totalCount : null;
+    }
+
+    @Override
+    public boolean isCountAvailable() {
+        return NOT_AVAILABLE != count;
+    }
+
+    @Override
+    public boolean isTotalCountAvailable() {
+        return NOT_AVAILABLE != totalCount;
+    }
+
+    @Override
+    public boolean isSingleValueOnly() {
+        return isCountAvailable() != isTotalCountAvailable();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !isCountAvailable() && !isTotalCountAvailable();
+    }
+
+    @Override
+    public boolean isComplete() {
+        return isCountAvailable() && isTotalCountAvailable();
+    }
+
+    /**
+     * Sums up both counters. A value of the result is only available if it is available
+     * in both counters.
+     *
+     * @param other to be merged, must not be null
+     * @return the merged counter
+     * @throws ArithmeticException if a sum overflows an {@code int}
+     */
+    public PrimitiveRangeCounter merge(final PrimitiveRangeCounter other) {
+        return new PrimitiveRangeCounter(sum(count, other.count), sum(totalCount, other.totalCount));
+    }
+
+    private static int sum(final int first, final int second) {
+        if (NOT_AVAILABLE == first || NOT_AVAILABLE == second) {
+            return NOT_AVAILABLE;
+        }
+        return Math.addExact(first, second);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.RangeCounter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator for counting in parallel, e.g. while combining the
+ * {@link RangeCounter}s of several backend queries. Updates are contention free,
+ * the result is obtained by {@link #snapshot()}.
+ *
+ * <p>Like {@link PrimitiveRangeCounter#merge(PrimitiveRangeCounter)} a value is only
+ * available within the snapshot if it was available for every added counter. The sums
+ * are accumulated as {@code long}, sums beyond the range of an {@code int} are reported
+ * as {@link Integer#MAX_VALUE} by the snapshot.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * RangeCounterAccumulator accumulator = new RangeCounterAccumulator();
+ * shards.parallelStream().forEach(shard -&gt; accumulator.add(shard.query()));
+ * PrimitiveRangeCounter total = accumulator.snapshot();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+@ToString
+public class RangeCounterAccumulator {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalCount = new LongAdder();
+    private volatile boolean countUnavailable;
+    private volatile boolean totalCountUnavailable;
+
+    /**
+     * @param delta to be added to the current count, must not be negative
+     */
+    public void addCount(final long delta) {
+        count.add(checkDelta(delta));
+    }
+
+    /**
+     * @param delta to be added to the total count, must not be negative
+     */
+    public void addTotalCount(final long delta) {
+        totalCount.add(checkDelta(delta));
+    }
+
+    /**
+     * Adds the values of the given counter. Missing values render the corresponding
+     * value of all later snapshots unavailable until {@link #reset()}.
+     *
+     * @param rangeCounter to be added, must not be null
+     */
+    public void add(final RangeCounter rangeCounter) {
+        final var primitive = PrimitiveRangeCounter.of(rangeCounter);
+        if (primitive.isCountAvailable()) {
+            count.add(primitive.getCountAsInt());
+        } else {
+            countUnavailable = true;
+        }
+        if (primitive.isTotalCountAvailable()) {
+            totalCount.add(primitive.getTotalCountAsInt());
+        } else {
+            totalCountUnavailable = true;
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current sums. Concurrent updates may or may not be
+     * reflected.
+     *
+     * @return the accumulated counter, sums exceeding the range of an {@code int}
+     *         saturated to {@link Integer#MAX_VALUE}
+     */
+    public PrimitiveRangeCounter snapshot() {
+        return new PrimitiveRangeCounter(
+                countUnavailable ? PrimitiveRangeCounter.NOT_AVAILABLE : saturated(count.sum()),
+                totalCountUnavailable ? PrimitiveRangeCounter.NOT_AVAILABLE : saturated(totalCount.sum()));
+    }
+
+    /**
+     * Resets the accumulator to its initial state. Not atomic with respect to
+     * concurrent updates.
+     */
+    public void reset() {
+        count.reset();
+        totalCount.reset();
+        countUnavailable = false;
+        totalCountUnavailable = false;
+    }
+
+    private static int saturated(final long sum) {
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    private static long checkDelta(final long delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Delta must not be negative, but was " + delta);
+        }
+        return delta;
+    }
+}
@@ -21,6 +21,22 @@
  * <ul>
  *   <li>{@link de.cuioss.uimodel.model.impl.BaseRangeCounter} - Base implementation
  *       of the RangeCounter interface, providing pagination and range management</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.BaseLongRangeCounter} - Long based counter
+ *       supporting estimated totals</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.PrimitiveRangeCounter} - RangeCounter backed
+ *       by primitive values, supporting merging of partial counters</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.RangeCounterAccumulator} - Thread-safe
+ *       accumulation of counts</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.LiveRangeCounter} - Lock-free counter updated
+ *       while results are streamed</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.PagedResult} - Lazily loaded pages of a
+ *       result set with bounded memory</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.OptionCatalog} - Indexed set of options,
+ *       shared between selections</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.IndexedMultiSelection} - Bit set based
+ *       multi-selection over an option catalog</li>
+ *   <li>{@link de.cuioss.uimodel.model.impl.ErasableItemList} - Bulk deletion handling
+ *       for ErasableItems</li>
  * </ul>
  *
  * <p>Design Principles:
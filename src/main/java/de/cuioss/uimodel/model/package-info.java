@@ -24,7 +24,10 @@
  * <ul>
  *   <li>{@link de.cuioss.uimodel.model.Gender} - Enumeration for gender representation</li>
  *   <li>{@link de.cuioss.uimodel.model.ConditionalInteger} - Integer wrapper with conditional state</li>
+ *   <li>{@link de.cuioss.uimodel.model.PartialDate} - Compact, possibly incomplete date</li>
  *   <li>{@link de.cuioss.uimodel.model.RangeCounter} - Counter with min/max range support</li>
+ *   <li>{@link de.cuioss.uimodel.model.LongRangeCounter} - Counter for very large, possibly
+ *       estimated ranges</li>
  *   <li>{@link de.cuioss.uimodel.model.TypedSelection} - Generic type-safe selection model</li>
  * </ul>
  *
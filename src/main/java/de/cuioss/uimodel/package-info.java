@@ -46,6 +46,7 @@
  *   <li>{@link de.cuioss.uimodel.service.OptionalService} - Provides structures and templates for creating robust,
  *   state-aware services that follow the framework's no-exception pattern</li>
  *   <li>{@link de.cuioss.uimodel.application.CuiProjectStage} - Application lifecycle management</li>
+ *   <li>{@link de.cuioss.uimodel.LogRateLimiter} - Deduplication of frequently logged warnings</li>
  * </ul>
  *
  * <h2>Getting Started</h2>
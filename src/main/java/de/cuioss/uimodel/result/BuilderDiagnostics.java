@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Defines how the builders of {@link ResultObject} and {@link ResultOptional} report a
+ * {@link ResultDetail} being replaced by a later one, which usually indicates a
+ * previous failure that was not handled.
+ *
+ * <p>The default {@link #OFF} does not cost anything. {@link #COUNTING} is cheap
+ * enough for high-volume code, the count being available via
+ * {@link #getReplacedDetailCount()}. {@link #LOGGING} additionally logs the replaced
+ * detail with a level derived from the current state.
+ *
+ * <pre>
+ * ResultObject.&lt;Patient&gt;builder().diagnostics(BuilderDiagnostics.LOGGING)...
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+public enum BuilderDiagnostics {
+
+    /** Replaced details are ignored. */
+    OFF,
+
+    /** Replaced details are counted. */
+    COUNTING,
+
+    /** Replaced details are counted and logged. */
+    LOGGING;
+
+    private static final String ALREADY_FAILED = "Already failed: ";
+
+    private static final LongAdder REPLACED_DETAILS = new LongAdder();
+
+    /**
+     * @return the number of replaced details reported with {@link #COUNTING} or
+     *         {@link #LOGGING} since the last {@link #resetReplacedDetailCount()}
+     */
+    public static long getReplacedDetailCount() {
+        return REPLACED_DETAILS.sum();
+    }
+
+    /**
+     * Resets the count of replaced details.
+     */
+    public static void resetReplacedDetailCount() {
+        REPLACED_DETAILS.reset();
+    }
+
+    /**
+     * @param state    the current state of the builder, may be null
+     * @param replaced the detail being replaced, nothing is reported if null
+     * @param logger   to be used for {@link #LOGGING}
+     */
+    void detailReplaced(final ResultState state, final ResultDetail replaced, final CuiLogger logger) {
+        if (OFF == this || null == replaced) {
+            return;
+        }
+        REPLACED_DETAILS.increment();
+        if (LOGGING == this) {
+            ResultObject.logDetail(ALREADY_FAILED, state, replaced, logger);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable dispatch table routing results to handlers depending on their error code.
+ * The handler is looked up by the ordinal of the code, so dispatching takes constant
+ * time regardless of the number of registered codes.
+ *
+ * <p>Dispatching counts as handling the error code of the result, see
+ * {@link ResultObject#errorCodeOrNull()}.
+ *
+ * <pre>
+ * private static final ErrorCodeDispatcher&lt;Patient, String&gt; OUTCOME = ErrorCodeDispatcher
+ *         .&lt;Patient, String&gt;builder()
+ *         .on(ResultErrorCodes.NOT_FOUND, result -&gt; "notFound")
+ *         .on(AUTH_RELATED, result -&gt; "login")
+ *         .otherwise(result -&gt; "error")
+ *         .build();
+ * ...
+ * return OUTCOME.dispatch(result);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @param <T> the result type
+ * @param <R> the type of the outcome of the handlers
+ * @since 2.5
+ */
+public final class ErrorCodeDispatcher<T, R> {
+
+    /**
+     * The handlers registered for the codes of one enum type, indexed by ordinal.
+     *
+     * @param enumType the enum type
+     * @param handlers one slot per constant of the enum type, null if no handler is
+     *                 registered for the constant
+     */
+    private record HandlerTable<T, R>(Class<?> enumType,
+            List<Function<? super ResultObject<T>, ? extends R>> handlers) {
+
+        HandlerTable(final Class<?> enumType) {
+            this(enumType, new ArrayList<>(Collections.nCopies(enumType.getEnumConstants().length, null)));
+        }
+
+        HandlerTable<T, R> immutableCopy() {
+            return new HandlerTable<>(enumType, Collections.unmodifiableList(new ArrayList<>(handlers)));
+        }
+    }
+
+    private final List<HandlerTable<T, R>> tables;
+
+    private final Function<? super ResultObject<T>, ? extends R> fallback;
+
+    private ErrorCodeDispatcher(final List<HandlerTable<T, R>> tables,
+            final Function<? super ResultObject<T>, ? extends R> fallback) {
+        this.tables = tables;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @param <T> the result type
+     * @param <R> the type of the outcome of the handlers
+     * @return a new builder
+     */
+    public static <T, R> Builder<T, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @param result to be dispatched, must not be null
+     * @return the outcome of the handler registered for the error code of the result,
+     * or of the fallback if there is none or the result has no error code
+     */
+    public R dispatch(final ResultObject<T> result) {
+        return handlerFor(result.errorCodeOrNull()).apply(result);
+    }
+
+    /**
+     * @param code may be null
+     * @return true if a specific handler is registered for the given code
+     */
+    public boolean handles(final Enum<?> code) {
+        return null != lookup(code);
+    }
+
+    private Function<? super ResultObject<T>, ? extends R> handlerFor(final Enum<?> code) {
+        final var handler = lookup(code);
+        return null == handler ? fallback : handler;
+    }
+
+    private Function<? super ResultObject<T>, ? extends R> lookup(final Enum<?> code) {
+        if (null == code) {
+            return null;
+        }
+        final Class<?> type = code.getDeclaringClass();
+        for (final HandlerTable<T, R> table : tables) {
+            if (table.enumType() == type) {
+                return table.handlers().get(code.ordinal());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builder for {@link ErrorCodeDispatcher}. If a code is registered more than once,
+     * the last registration wins.
+     *
+     * @param <T> the result type
+     * @param <R> the type of the outcome of the handlers
+     */
+    public static final class Builder<T, R> {
+
+        private final List<HandlerTable<T, R>> tables = new ArrayList<>();
+
+        private Function<? super ResultObject<T>, ? extends R> fallback = result -> null;
+
+        private Builder() {
+        }
+
+        /**
+         * @param code    must not be null
+         * @param handler for results with the given code, must not be null
+         * @return this builder
+         */
+        public Builder<T, R> on(final Enum<?> code, final Function<? super ResultObject<T>, ? extends R> handler) {
+            requireNonNull(handler, "handler");
+            tableFor(requireNonNull(code, "code").getDeclaringClass()).handlers().set(code.ordinal(), handler);
+            return this;
+        }
+
+        /**
+         * @param matcher all codes of the matcher are routed to the handler, must not
+         *                be null
+         * @param handler for results with one of the codes, must not be null
+         * @return this builder
+         */
+        public Builder<T, R> on(final ErrorCodeMatcher matcher,
+                final Function<? super ResultObject<T>, ? extends R> handler) {
+            matcher.getCodes().forEach(code -> on(code, handler));
+            return this;
+        }
+
+        /**
+         * @param handler for results without error code or with an unregistered one,
+         *                must not be null. Defaults to a handler returning null.
+         * @return this builder
+         */
+        public Builder<T, R> otherwise(final Function<? super ResultObject<T>, ? extends R> handler) {
+            fallback = requireNonNull(handler, "handler");
+            return this;
+        }
+
+        /**
+         * @return the dispatcher, not affected by later changes of this builder
+         */
+        public ErrorCodeDispatcher<T, R> build() {
+            return new ErrorCodeDispatcher<>(tables.stream().map(HandlerTable::immutableCopy).toList(), fallback);
+        }
+
+        private HandlerTable<T, R> tableFor(final Class<?> type) {
+            for (final HandlerTable<T, R> table : tables) {
+                if (table.enumType() == type) {
+                    return table;
+                }
+            }
+            final var table = new HandlerTable<T, R>(type);
+            tables.add(table);
+            return table;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precompiled, immutable group of error codes, like "retryable" or "authentication
+ * related" codes, replacing repeated calls to
+ * {@link ResultObject#containsErrorCode(Enum...)}.
+ *
+ * <p>The codes are stored as ordinal bitmask per enum class, so codes of different enum
+ * types can be mixed. Matching neither allocates nor depends on the number of codes and
+ * does not count as handling the error code of the result. Two matchers are equal if
+ * they match the same codes, regardless of the order the codes were given in.
+ *
+ * <pre>
+ * private static final ErrorCodeMatcher RETRYABLE =
+ *         ErrorCodeMatcher.of(ResultErrorCodes.SERVICE_NOT_AVAILABLE, ResultErrorCodes.RUNTIME_ERROR);
+ * ...
+ * if (RETRYABLE.matches(result)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+@ToString(of = "codes")
+@EqualsAndHashCode(of = "codes")
+public final class ErrorCodeMatcher implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1948285632150117390L;
+
+    /** Canonical order of the codes: by enum type, then by ordinal. */
+    private static final Comparator<Enum<?>> CANONICAL_ORDER = Comparator
+            .<Enum<?>, String>comparing(code -> code.getDeclaringClass().getName())
+            .thenComparingInt(Enum::ordinal);
+
+    /** Matcher not matching any code. */
+    public static final ErrorCodeMatcher NONE = new ErrorCodeMatcher(new Enum<?>[0]);
+
+    /** The distinct codes in canonical order, representing the bitmasks for equality. */
+    private final Enum<?>[] codes;
+
+    /** Derived from {@link #codes}, rebuilt on deserialization. */
+    private final transient Class<?>[] enumTypes;
+
+    /** Derived from {@link #codes}, rebuilt on deserialization. */
+    private final transient long[][] masks;
+
+    private ErrorCodeMatcher(final Enum<?>[] codes) {
+        this.codes = codes;
+        final List<Class<?>> types = new ArrayList<>();
+        final List<long[]> typeMasks = new ArrayList<>();
+        for (final Enum<?> code : codes) {
+            final Class<?> type = code.getDeclaringClass();
+            int index = types.indexOf(type);
+            if (index < 0) {
+                index = types.size();
+                types.add(type);
+                typeMasks.add(new long[(type.getEnumConstants().length + 63) >>> 6]);
+            }
+            typeMasks.get(index)[code.ordinal() >>> 6] |= 1L << code.ordinal();
+        }
+        enumTypes = types.toArray(new Class<?>[0]);
+        masks = typeMasks.toArray(new long[0][]);
+    }
+
+    /**
+     * @param codes to be matched, must not contain null
+     * @return the matcher for the given codes
+     */
+    public static ErrorCodeMatcher of(final Enum<?>... codes) {
+        return of(Arrays.asList(codes));
+    }
+
+    /**
+     * @param codes to be matched, must not contain null
+     * @return the matcher for the given codes
+     */
+    public static ErrorCodeMatcher of(final Collection<? extends Enum<?>> codes) {
+        final Enum<?>[] distinct = codes.stream().map(code -> requireNonNull(code, "code")).distinct()
+                .sorted(CANONICAL_ORDER).toArray(Enum<?>[]::new);
+        return distinct.length == 0 ? NONE : new ErrorCodeMatcher(distinct);
+    }
+
+    /**
+     * @param other to be combined with, must not be null
+     * @return a matcher matching the codes of both matchers
+     */
+    public ErrorCodeMatcher or(final ErrorCodeMatcher other) {
+        final List<Enum<?>> combined = new ArrayList<>(Arrays.asList(codes));
+        combined.addAll(Arrays.asList(other.codes));
+        return of(combined);
+    }
+
+    /**
+     * @param code to be checked, may be null
+     * @return true if the given code is part of this matcher
+     */
+    public boolean matches(final Enum<?> code) {
+        if (null == code) {
+            return false;
+        }
+        final Class<?> type = code.getDeclaringClass();
+        for (int i = 0; i < enumTypes.length; i++) {
+            if (enumTypes[i] == type) {
+                return (masks[i][code.ordinal() >>> 6] & 1L << code.ordinal()) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param result to be checked, may be null
+     * @return true if the error code of the given result is part of this matcher
+     */
+    public boolean matches(final ResultObject<?> result) {
+        return null != result && result.containsErrorCode(this);
+    }
+
+    /**
+     * @return the distinct codes of this matcher, ordered by enum type and ordinal
+     */
+    public List<Enum<?>> getCodes() {
+        return List.of(codes);
+    }
+
+    @Serial
+    private Object readResolve() {
+        return codes.length == 0 ? NONE : new ErrorCodeMatcher(codes);
+    }
+}
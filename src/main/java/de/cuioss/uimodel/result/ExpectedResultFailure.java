@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lightweight cause for expected failures, like a {@link ResultErrorCodes#NOT_FOUND}
+ * answer of a backend. In contrast to a regular exception it neither captures a stack
+ * trace nor supports suppressed exceptions, so creating it is as cheap as creating any
+ * other small object.
+ *
+ * <p>As instances are effectively immutable they can be shared: {@link #of(Enum)}
+ * returns a preallocated instance per error code.
+ *
+ * <pre>
+ * ResultDetail detail = ResultDetail.expected(new DisplayName("Patient not found"),
+ *         ResultErrorCodes.NOT_FOUND);
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+public final class ExpectedResultFailure extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 6245196829207425138L;
+
+    private static final Map<Enum<?>, ExpectedResultFailure> PREALLOCATED = new ConcurrentHashMap<>();
+
+    /**
+     * The error code this failure was created for, may be null.
+     */
+    @Getter
+    private final Enum<?> errorCode;
+
+    /**
+     * @param message describing the failure
+     */
+    public ExpectedResultFailure(final String message) {
+        this(message, null);
+    }
+
+    private ExpectedResultFailure(final String message, final Enum<?> errorCode) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @param errorCode must not be null
+     * @return the shared instance for the given error code
+     */
+    public static ExpectedResultFailure of(final Enum<?> errorCode) {
+        requireNonNull(errorCode, "errorCode");
+        return PREALLOCATED.computeIfAbsent(errorCode, code -> new ExpectedResultFailure(
+                code.getDeclaringClass().getSimpleName() + "." + code.name(), code));
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memoizes the results of a loader returning {@link ResultObject}s, e.g. a backend
+ * lookup. The time a result is kept depends on its outcome:
+ * <ul>
+ *   <li>{@link ResultState#VALID} results are kept for the valid time to live</li>
+ *   <li>{@link ResultState#INFO} and {@link ResultState#WARNING} results are kept for
+ *   the degraded time to live</li>
+ *   <li>results with the error code {@link ResultErrorCodes#NOT_FOUND} are kept for the
+ *   not found time to live</li>
+ *   <li>other errors and results with the error code
+ *   {@link ResultErrorCodes#SERVICE_NOT_AVAILABLE} are never cached</li>
+ * </ul>
+ *
+ * <p>If the maximum size is exceeded, the least recently used entry is evicted. Every
+ * call returns its own copy of the cached result, created by the configured copier,
+ * usually {@link ResultObject#copy()}, so each caller has to handle the result detail
+ * and error code on its own.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ResultCache&lt;String, ResultObject&lt;Patient&gt;&gt; patients = ResultCache
+ *         .&lt;String, ResultObject&lt;Patient&gt;&gt;builder()
+ *         .loader(service::findPatient)
+ *         .copier(ResultObject::copy)
+ *         .validTimeToLive(Duration.ofMinutes(1))
+ *         .maximumSize(500)
+ *         .build();
+ * ResultObject&lt;Patient&gt; patient = patients.get(patientId);
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @param <K> the type of the keys
+ * @param <R> the type of the results
+ * @since 2.5
+ */
+public class ResultCache<K, R extends ResultObject<?>> {
+
+    /** Time to live of valid results used if none is configured. */
+    public static final Duration DEFAULT_VALID_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    /** Time to live of info and warning results used if none is configured. */
+    public static final Duration DEFAULT_DEGRADED_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    /** Time to live of not found results used if none is configured. */
+    public static final Duration DEFAULT_NOT_FOUND_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    /** Maximum size used if none is configured. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final long NOT_CACHEABLE = -1;
+
+    private static final ErrorCodeMatcher NEVER_CACHED = ErrorCodeMatcher.of(ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+
+    private static final ErrorCodeMatcher NEGATIVE_CACHED = ErrorCodeMatcher.of(ResultErrorCodes.NOT_FOUND);
+
+    private record Entry<R>(R result, long expiresAt) {
+    }
+
+    private final Function<? super K, ? extends R> loader;
+
+    private final UnaryOperator<R> copier;
+
+    private final long validTimeToLiveNanos;
+
+    private final long degradedTimeToLiveNanos;
+
+    private final long notFoundTimeToLiveNanos;
+
+    /** The maximum number of cached results. */
+    @Getter
+    private final int maximumSize;
+
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<K, Entry<R>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param loader             loading the results, must not be null and must not
+     *                           return null
+     * @param copier             creating the independent copies of the cached results,
+     *                           must not be null, e.g. {@code ResultObject::copy}
+     * @param validTimeToLive    of valid results, defaults to
+     *                           {@link #DEFAULT_VALID_TIME_TO_LIVE}
+     * @param degradedTimeToLive of info and warning results, defaults to
+     *                           {@link #DEFAULT_DEGRADED_TIME_TO_LIVE}
+     * @param notFoundTimeToLive of {@link ResultErrorCodes#NOT_FOUND} results, defaults
+     *                           to {@link #DEFAULT_NOT_FOUND_TIME_TO_LIVE}. Use
+     *                           {@link Duration#ZERO} to disable negative caching.
+     * @param maximumSize        the maximum number of cached results, defaults to
+     *                           {@link #DEFAULT_MAXIMUM_SIZE}
+     * @param nanoClock          source of the current time in nanoseconds, defaults
+     *                           to {@link System#nanoTime()}
+     */
+    @Builder
+    public ResultCache(@NonNull final Function<? super K, ? extends R> loader, @NonNull final UnaryOperator<R> copier,
+            final Duration validTimeToLive, final Duration degradedTimeToLive, final Duration notFoundTimeToLive,
+            final Integer maximumSize, final LongSupplier nanoClock) {
+        this.loader = loader;
+        this.copier = copier;
+        validTimeToLiveNanos = (null == validTimeToLive ? DEFAULT_VALID_TIME_TO_LIVE : validTimeToLive).toNanos();
+        degradedTimeToLiveNanos = (null == degradedTimeToLive ? DEFAULT_DEGRADED_TIME_TO_LIVE : degradedTimeToLive)
+                .toNanos();
+        notFoundTimeToLiveNanos = (null == notFoundTimeToLive ? DEFAULT_NOT_FOUND_TIME_TO_LIVE : notFoundTimeToLive)
+                .toNanos();
+        this.maximumSize = null == maximumSize ? DEFAULT_MAXIMUM_SIZE : maximumSize;
+        if (validTimeToLiveNanos < 0 || degradedTimeToLiveNanos < 0 || notFoundTimeToLiveNanos < 0
+                || this.maximumSize < 1) {
+            throw new IllegalArgumentException("Durations must not be negative and maximumSize must be positive");
+        }
+        this.nanoClock = null == nanoClock ? System::nanoTime : nanoClock;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<R>> eldest) {
+                if (size() > ResultCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached result for the given key, calling the loader if
+     * there is none or it expired. Concurrent misses for the same key each call the
+     * loader, unless it is wrapped by a {@link SingleFlightLoader}.
+     *
+     * @param key to be looked up
+     * @return the result, never null
+     */
+    public R get(final K key) {
+        final long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            final var entry = entries.get(key);
+            if (null != entry) {
+                if (now - entry.expiresAt() < 0) {
+                    hits.increment();
+                    return copier.apply(entry.result());
+                }
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        final R loaded = requireNonNull(loader.apply(key), "loaded result");
+        final long timeToLive = timeToLiveNanos(loaded);
+        if (timeToLive > 0) {
+            final var entry = new Entry<>(copier.apply(loaded), now + timeToLive);
+            lock.lock();
+            try {
+                entries.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @param key to be removed from the cache
+     */
+    public void invalidate(final K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of cached results, including expired ones not yet removed
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of calls served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of calls to the loader
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results evicted because the maximum size was exceeded
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of hits to all calls, 0 if there was no call yet
+     */
+    public double getHitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return 0 == total ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @param result to be checked
+     * @return the time to live of the given result in nanoseconds, negative if it must
+     *         not be cached
+     */
+    long timeToLiveNanos(final ResultObject<?> result) {
+        if (result.containsErrorCode(NEVER_CACHED)) {
+            return NOT_CACHEABLE;
+        }
+        return switch (result.getState()) {
+            case VALID -> validTimeToLiveNanos;
+            case INFO, WARNING -> degradedTimeToLiveNanos;
+            case ERROR -> result.containsErrorCode(NEGATIVE_CACHED) ? notFoundTimeToLiveNanos : NOT_CACHEABLE;
+        };
+    }
+}
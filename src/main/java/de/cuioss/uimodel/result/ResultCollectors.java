@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector}s for streams of {@link ResultObject}s, computing all needed
+ * aggregates in a single pass. All collectors provide proper combiners and can be used
+ * with parallel streams. Regarding the handling of the results:
+ * <ul>
+ *   <li>{@link #summarizing()} reads detail and error code via
+ *   {@link ResultObject#resultDetailOrNull()} and {@link ResultObject#errorCodeOrNull()},
+ *   so the summarized results count as handled, and accesses the result only for
+ *   {@link ResultState#VALID} objects.</li>
+ *   <li>{@link #groupingByErrorCode()} reads the error code via
+ *   {@link ResultObject#errorCodeOrNull()}, so only the error code counts as
+ *   handled.</li>
+ *   <li>{@link #partitioningByState()} only reads the state. The partitioned results
+ *   are passed on unhandled, the caller stays responsible for handling them.</li>
+ * </ul>
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ResultCollectors.Summary&lt;Patient&gt; summary = results.parallelStream()
+ *         .collect(ResultCollectors.summarizing());
+ * summary.validResults().forEach(this::process);
+ * summary.detailsByErrorCode().forEach(this::report);
+ * if (ResultState.ERROR == summary.worstState()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @since 2.5
+ */
+@UtilityClass
+public final class ResultCollectors {
+
+    /**
+     * Aggregates of a stream of results.
+     *
+     * @param validResults       the results of all {@link ResultState#VALID} objects, in
+     *                           encounter order
+     * @param stateCounts        the number of objects per state, containing all states
+     * @param detailsByErrorCode the details of all non valid objects with an error code,
+     *                           grouped by error code in order of first occurrence
+     * @param uncodedDetails     the details of all non valid objects without an error
+     *                           code
+     * @param worstState         the most severe state, {@link ResultState#VALID} for an
+     *                           empty stream
+     * @param <T>                the result type
+     */
+    public record Summary<T>(List<T> validResults, Map<ResultState, Long> stateCounts,
+            Map<Enum<?>, List<ResultDetail>> detailsByErrorCode, List<ResultDetail> uncodedDetails,
+            ResultState worstState) {
+    }
+
+    /**
+     * @param <R> the type of the results
+     * @return a collector partitioning the results by their state, the map contains all
+     * states. The results are not marked as handled.
+     */
+    public static <R extends ResultObject<?>> Collector<R, ?, EnumMap<ResultState, List<R>>> partitioningByState() {
+        return partitioningByState(Collectors.toList());
+    }
+
+    /**
+     * @param downstream to be applied to the results of each state
+     * @param <R>        the type of the results
+     * @param <A>        the intermediate type of the downstream collector
+     * @param <D>        the outcome of the downstream collector
+     * @return a collector partitioning the results by their state, the map contains all
+     * states. The results are passed to the downstream collector without being marked as
+     * handled.
+     */
+    public static <R extends ResultObject<?>, A, D> Collector<R, ?, EnumMap<ResultState, D>> partitioningByState(
+            final Collector<? super R, A, D> downstream) {
+        final Supplier<A> downstreamSupplier = downstream.supplier();
+        final BiConsumer<A, ? super R> downstreamAccumulator = downstream.accumulator();
+        final BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        final Function<A, D> downstreamFinisher = downstream.finisher();
+        return Collector.<R, EnumMap<ResultState, A>, EnumMap<ResultState, D>>of(
+                () -> {
+                    final EnumMap<ResultState, A> containers = new EnumMap<>(ResultState.class);
+                    for (final ResultState state : ResultState.values()) {
+                        containers.put(state, downstreamSupplier.get());
+                    }
+                    return containers;
+                },
+                (containers, result) -> downstreamAccumulator.accept(containers.get(result.getState()), result),
+                (left, right) -> {
+                    for (final ResultState state : ResultState.values()) {
+                        left.put(state, downstreamCombiner.apply(left.get(state), right.get(state)));
+                    }
+                    return left;
+                },
+                containers -> {
+                    final EnumMap<ResultState, D> partitions = new EnumMap<>(ResultState.class);
+                    containers.forEach((state, container) -> partitions.put(state,
+                            downstreamFinisher.apply(container)));
+                    return partitions;
+                });
+    }
+
+    /**
+     * @param <R> the type of the results
+     * @return a collector grouping the results with an error code by it, in order of
+     * first occurrence. Results without error code are skipped.
+     */
+    public static <R extends ResultObject<?>> Collector<R, ?, Map<Enum<?>, List<R>>> groupingByErrorCode() {
+        return Collector.<R, Map<Enum<?>, List<R>>>of(LinkedHashMap::new,
+                (groups, result) -> {
+                    final Enum<?> code = result.errorCodeOrNull();
+                    if (null != code) {
+                        groups.computeIfAbsent(code, key -> new ArrayList<>()).add(result);
+                    }
+                },
+                ResultCollectors::mergeGroups);
+    }
+
+    /**
+     * @param <T> the result type
+     * @return a collector computing the {@link Summary} of the results
+     */
+    public static <T> Collector<ResultObject<T>, ?, Summary<T>> summarizing() {
+        return Collector.of(SummaryContainer<T>::new, SummaryContainer::add, SummaryContainer::combine,
+                SummaryContainer::finish);
+    }
+
+    private static <K, V> Map<K, List<V>> mergeGroups(final Map<K, List<V>> left, final Map<K, List<V>> right) {
+        right.forEach((key, values) -> left.computeIfAbsent(key, k -> new ArrayList<>()).addAll(values));
+        return left;
+    }
+
+    private static final class SummaryContainer<T> {
+
+        private final List<T> validResults = new ArrayList<>();
+
+        private final long[] stateCounts = new long[ResultState.values().length];
+
+        private final Map<Enum<?>, List<ResultDetail>> detailsByErrorCode = new LinkedHashMap<>();
+
+        private final List<ResultDetail> uncodedDetails = new ArrayList<>();
+
+        void add(final ResultObject<T> result) {
+            final ResultState state = result.getState();
+            stateCounts[state.ordinal()]++;
+            if (ResultState.VALID == state) {
+                validResults.add(result.getResult());
+                return;
+            }
+            final ResultDetail detail = result.resultDetailOrNull();
+            final Enum<?> code = result.errorCodeOrNull();
+            if (null == detail) {
+                return;
+            }
+            if (null == code) {
+                uncodedDetails.add(detail);
+            } else {
+                detailsByErrorCode.computeIfAbsent(code, key -> new ArrayList<>()).add(detail);
+            }
+        }
+
+        SummaryContainer<T> combine(final SummaryContainer<T> other) {
+            validResults.addAll(other.validResults);
+            for (int i = 0; i < stateCounts.length; i++) {
+                stateCounts[i] += other.stateCounts[i];
+            }
+            mergeGroups(detailsByErrorCode, other.detailsByErrorCode);
+            uncodedDetails.addAll(other.uncodedDetails);
+            return this;
+        }
+
+        Summary<T> finish() {
+            final EnumMap<ResultState, Long> counts = new EnumMap<>(ResultState.class);
+            ResultState worst = ResultState.VALID;
+            for (final ResultState state : ResultState.values()) {
+                counts.put(state, stateCounts[state.ordinal()]);
+                if (stateCounts[state.ordinal()] > 0 && state.compareTo(worst) > 0) {
+                    worst = state;
+                }
+            }
+            final Map<Enum<?>, List<ResultDetail>> details = new LinkedHashMap<>();
+            detailsByErrorCode.forEach((code, list) -> details.put(code, Collections.unmodifiableList(list)));
+            return new Summary<>(Collections.unmodifiableList(validResults), Collections.unmodifiableMap(counts),
+                    Collections.unmodifiableMap(details), Collections.unmodifiableList(uncodedDetails), worst);
+        }
+    }
+}
@@ -91,7 +91,8 @@ import static java.util.Objects.requireNonNull;
  *   <li>Equals/HashCode excludes cause for practical comparison</li>
  *   <li>Cause is optional but detail is mandatory</li>
  *   <li>Integrates with JSF message handling</li>
- *   <li>Supports Java 8 Optional API for cause</li>
+ *   <li>Supports Java 8 Optional API for cause, {@link #causeOrNull()} avoids the
+ *   allocation</li>
  * </ul>
  *
  * @author Eugen Fischer
@@ -144,6 +145,19 @@ public class ResultDetail implements Serializable {
         this.detail = requireNonNull(detail, "detail");
     }
 
+    /**
+     * Creates a detail for an expected failure. Its cause is the shared, stackless
+     * {@link ExpectedResultFailure} of the given error code, so no stack trace is
+     * captured.
+     *
+     * @param detail    The display provider for the detail message, must not be {@code null}
+     * @param errorCode The error code of the failure, must not be {@code null}
+     * @return the created detail
+     */
+    public static ResultDetail expected(final IDisplayNameProvider<?> detail, final Enum<?> errorCode) {
+        return new ResultDetail(detail, ExpectedResultFailure.of(errorCode));
+    }
+
     /**
      * Returns the underlying cause of this detail, if one exists.
      *
@@ -152,4 +166,13 @@ public class ResultDetail implements Serializable {
     public Optional<Throwable> getCause() {
         return Optional.ofNullable(cause);
     }
+
+    /**
+     * Allocation free variant of {@link #getCause()}.
+     *
+     * @return the cause if one was set, {@code null} otherwise
+     */
+    public Throwable causeOrNull() {
+        return cause;
+    }
 }
@@ -15,9 +15,10 @@
  */
 package de.cuioss.uimodel.result;
 
-import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.uimodel.service.OptionalService;
 
+import java.util.Arrays;
+
 /**
  * Standardized error codes for {@link ResultObject} implementations, inspired by
  * HTTP status codes. These codes provide a consistent way to categorize and handle
@@ -30,7 +31,14 @@ import de.cuioss.uimodel.service.OptionalService;
  *   <li>{@link #NOT_AUTHENTICATED} - Authentication required (HTTP 401)</li>
  *   <li>{@link #BAD_REQUEST} - Invalid request (HTTP 400)</li>
  *   <li>{@link #SERVICE_NOT_AVAILABLE} - Service unavailable (HTTP 503)</li>
- *   <li>{@link #RUNTIME_ERROR} - General error (fallback)</li>
+ *   <li>{@link #RUNTIME_ERROR} - General error (fallback, HTTP 500)</li>
+ *   <li>{@link #REQUEST_TIMEOUT} - Request timed out (HTTP 408)</li>
+ *   <li>{@link #CONFLICT} - Conflicting state (HTTP 409)</li>
+ *   <li>{@link #PRECONDITION_FAILED} - Precondition not met (HTTP 412)</li>
+ *   <li>{@link #TOO_MANY_REQUESTS} - Rate limit exceeded (HTTP 429)</li>
+ *   <li>{@link #NOT_IMPLEMENTED} - Operation not supported (HTTP 501)</li>
+ *   <li>{@link #BAD_GATEWAY} - Invalid upstream response (HTTP 502)</li>
+ *   <li>{@link #GATEWAY_TIMEOUT} - Upstream timed out (HTTP 504)</li>
  * </ul>
  *
  * <h2>Usage Patterns</h2>
@@ -78,6 +86,10 @@ import de.cuioss.uimodel.service.OptionalService;
  * <ul>
  *   <li>{@code BAD_REQUEST} - Client-side validation failures</li>
  *   <li>{@code NOT_FOUND} - Requested resource doesn't exist</li>
+ *   <li>{@code REQUEST_TIMEOUT} - Client did not complete the request in time</li>
+ *   <li>{@code CONFLICT} - Concurrent modification or duplicate</li>
+ *   <li>{@code PRECONDITION_FAILED} - Outdated version of a resource</li>
+ *   <li>{@code TOO_MANY_REQUESTS} - Rate limit exceeded, retry later</li>
  * </ul>
  *
  * <h3>Security Errors</h3>
@@ -89,6 +101,9 @@ import de.cuioss.uimodel.service.OptionalService;
  * <h3>System Errors</h3>
  * <ul>
  *   <li>{@code SERVICE_NOT_AVAILABLE} - Service/system unavailable</li>
+ *   <li>{@code NOT_IMPLEMENTED} - Operation not supported by the backend</li>
+ *   <li>{@code BAD_GATEWAY} - Invalid response of an upstream system</li>
+ *   <li>{@code GATEWAY_TIMEOUT} - Upstream system did not answer in time</li>
  *   <li>{@code RUNTIME_ERROR} - Unspecified system errors</li>
  * </ul>
  *
@@ -119,7 +134,7 @@ public enum ResultErrorCodes {
      *   <li>Path or identifier is invalid</li>
      * </ul>
      */
-    NOT_FOUND,
+    NOT_FOUND(404),
 
     /**
      * Indicates that the user lacks the necessary privileges to perform
@@ -132,7 +147,7 @@ public enum ResultErrorCodes {
      *   <li>Resource is protected</li>
      * </ul>
      */
-    NOT_AUTHORIZED,
+    NOT_AUTHORIZED(403),
 
     /**
      * Indicates that authentication is required to access the resource.
@@ -145,7 +160,7 @@ public enum ResultErrorCodes {
      *   <li>Credentials are missing</li>
      * </ul>
      */
-    NOT_AUTHENTICATED,
+    NOT_AUTHENTICATED(401),
 
     /**
      * Indicates that the request was malformed or invalid.
@@ -158,7 +173,7 @@ public enum ResultErrorCodes {
      *   <li>Data format is incorrect</li>
      * </ul>
      */
-    BAD_REQUEST,
+    BAD_REQUEST(400),
 
     /**
      * Indicates that a required service is not available.
@@ -173,7 +188,7 @@ public enum ResultErrorCodes {
      *
      * @see OptionalService
      */
-    SERVICE_NOT_AVAILABLE,
+    SERVICE_NOT_AVAILABLE(503),
 
     /**
      * Indicates a general runtime error with no specific categorization.
@@ -185,10 +200,70 @@ public enum ResultErrorCodes {
      *   <li>System is in an inconsistent state</li>
      *   <li>No other error code applies</li>
      * </ul>
+     * Corresponds to HTTP status code 500.
+     */
+    RUNTIME_ERROR(500),
+
+    /**
+     * Indicates that the request was not completed in time by the client.
+     * Corresponds to HTTP status code 408. Usually retryable.
+     */
+    REQUEST_TIMEOUT(408),
+
+    /**
+     * Indicates that the request conflicts with the current state of the resource,
+     * e.g. a concurrent modification or a duplicate. Corresponds to HTTP status
+     * code 409.
+     */
+    CONFLICT(409),
+
+    /**
+     * Indicates that a precondition of the request, e.g. the expected version of a
+     * resource, is not met. Corresponds to HTTP status code 412.
+     */
+    PRECONDITION_FAILED(412),
+
+    /**
+     * Indicates that a rate limit is exceeded. Corresponds to HTTP status code 429.
+     * Retryable after backing off.
+     */
+    TOO_MANY_REQUESTS(429),
+
+    /**
+     * Indicates that the requested operation is not supported by the backend.
+     * Corresponds to HTTP status code 501.
+     */
+    NOT_IMPLEMENTED(501),
+
+    /**
+     * Indicates that an upstream system returned an invalid response.
+     * Corresponds to HTTP status code 502. Usually retryable.
+     */
+    BAD_GATEWAY(502),
+
+    /**
+     * Indicates that an upstream system did not answer in time.
+     * Corresponds to HTTP status code 504. Usually retryable.
      */
-    RUNTIME_ERROR;
+    GATEWAY_TIMEOUT(504);
+
+    private static final int HTTP_CODE_RANGE = 600;
+
+    private static final ResultErrorCodes[] BY_HTTP_CODE = new ResultErrorCodes[HTTP_CODE_RANGE];
+
+    static {
+        Arrays.fill(BY_HTTP_CODE, RUNTIME_ERROR);
+        for (final ResultErrorCodes code : values()) {
+            BY_HTTP_CODE[code.httpCode] = code;
+        }
+    }
 
-    private static final CuiLogger LOGGER = new CuiLogger(ResultErrorCodes.class);
+    /** The HTTP status code corresponding to this error code, see {@link #toHttpCode}. */
+    private final int httpCode;
+
+    ResultErrorCodes(final int httpCode) {
+        this.httpCode = httpCode;
+    }
 
     /**
      * Maps an HTTP status code to the corresponding {@link ResultErrorCodes}.
@@ -201,23 +276,38 @@ public enum ResultErrorCodes {
      *   <li>401 → {@link #NOT_AUTHENTICATED}</li>
      *   <li>403 → {@link #NOT_AUTHORIZED}</li>
      *   <li>404 → {@link #NOT_FOUND}</li>
+     *   <li>408 → {@link #REQUEST_TIMEOUT}</li>
+     *   <li>409 → {@link #CONFLICT}</li>
+     *   <li>412 → {@link #PRECONDITION_FAILED}</li>
+     *   <li>429 → {@link #TOO_MANY_REQUESTS}</li>
+     *   <li>501 → {@link #NOT_IMPLEMENTED}</li>
+     *   <li>502 → {@link #BAD_GATEWAY}</li>
      *   <li>503 → {@link #SERVICE_NOT_AVAILABLE}</li>
+     *   <li>504 → {@link #GATEWAY_TIMEOUT}</li>
      *   <li>others → {@link #RUNTIME_ERROR}</li>
      * </ul>
      *
+     * <p>The mapping is a lookup in a precomputed table, so it neither allocates nor
+     * logs.
+     *
      * @param httpCode The HTTP status code to convert
      * @return The corresponding ResultErrorCode
      */
     public static ResultErrorCodes parseHttpCode(int httpCode) {
-        LOGGER.trace("Parsing ResultErrorCode from httpCode '%s'", httpCode);
-
-        return switch (httpCode) {
-            case 400 -> BAD_REQUEST;
-            case 401 -> NOT_AUTHENTICATED;
-            case 403 -> NOT_AUTHORIZED;
-            case 404 -> NOT_FOUND;
-            case 503 -> SERVICE_NOT_AVAILABLE;
-            default -> RUNTIME_ERROR;
-        };
+        if (httpCode < 0 || httpCode >= HTTP_CODE_RANGE) {
+            return RUNTIME_ERROR;
+        }
+        return BY_HTTP_CODE[httpCode];
+    }
+
+    /**
+     * Reverse mapping of {@link #parseHttpCode(int)}.
+     *
+     * @param errorCode to be converted, may be null
+     * @return the HTTP status code corresponding to the given error code, 500 for
+     * null
+     */
+    public static int toHttpCode(final ResultErrorCodes errorCode) {
+        return null == errorCode ? RUNTIME_ERROR.httpCode : errorCode.httpCode;
     }
 }
@@ -16,6 +16,7 @@
 package de.cuioss.uimodel.result;
 
 import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.LogRateLimiter;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -294,7 +295,7 @@ public class ResultObject<T> implements Serializable {
         this.errorCode = errorCode;
 
         if (!isValid() && null == resultDetail) {
-            LOGGER.warn(WARN.MISSING_RESULT_DETAIL.format(this.state));
+            LogRateLimiter.SHARED.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, this.state);
             throw new IllegalArgumentException(REQUEST_RESULT_DETAIL_IS_MANDATORY.formatted(this.state));
         }
     }
@@ -349,6 +350,19 @@ public class ResultObject<T> implements Serializable {
         this(result, copyFrom.state, copyFrom.resultDetail, copyFrom.errorCode);
     }
 
+    /**
+     * To be used by {@link #copy()}, copies all attributes besides the flags
+     * remembering the access to detail and error code.
+     *
+     * @param original to be copied
+     */
+    protected ResultObject(final ResultObject<T> original) {
+        result = original.result;
+        state = original.state;
+        resultDetail = original.resultDetail;
+        errorCode = original.errorCode;
+    }
+
     /**
      * To be used from extending classes with specific handling of the result.
      *
@@ -363,7 +377,7 @@ public class ResultObject<T> implements Serializable {
         this.state = checkArgumentNotNull(state, STATE_MESSAGE);
 
         if (ResultState.VALID != this.state && null == resultDetail) {
-            LOGGER.warn(WARN.MISSING_RESULT_DETAIL.format(this.state));
+            LogRateLimiter.SHARED.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, this.state);
             throw new IllegalArgumentException(REQUEST_RESULT_DETAIL_IS_MANDATORY.formatted(this.state));
         }
 
@@ -389,12 +403,56 @@ public class ResultObject<T> implements Serializable {
      */
     public T getResult() {
         if (ResultState.MUST_BE_HANDLED.contains(state) && !resultDetailPrompted && !errorCodePrompted) {
-            LOGGER.warn(WARN.INVALID_RESULT_ACCESS.format(state));
-            throw new UnsupportedOperationException(HANDLE_EXCEPTION_FIRST, resultDetail.getCause().orElse(null));
+            LogRateLimiter.SHARED.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, state);
+            throw new UnsupportedOperationException(HANDLE_EXCEPTION_FIRST, resultDetail.causeOrNull());
         }
         return result;
     }
 
+    /**
+     * Creates a copy that has not been handled yet, i.e. {@link #getResult()} throws
+     * again if the state must be handled. Used for sharing one result between several
+     * callers, e.g. from a cache, as every caller has to handle its own copy.
+     * Subclasses must override this method returning their own type.
+     *
+     * @return an unhandled copy of this object
+     */
+    public ResultObject<T> copy() {
+        return new ResultObject<>(this);
+    }
+
+    /**
+     * Non-throwing alternative to {@link #getResult()}.
+     *
+     * @param other to be returned if the state must be handled
+     * @return the result if the state is not contained in
+     * {@link ResultState#MUST_BE_HANDLED}, <code>other</code> otherwise
+     */
+    public T getResultOrElse(final T other) {
+        if (ResultState.MUST_BE_HANDLED.contains(state)) {
+            return other;
+        }
+        return getResult();
+    }
+
+    /**
+     * Non-throwing alternative to {@link #getResult()}, handling both outcomes at once.
+     *
+     * @param onResult  applied to the result if the state is not contained in
+     *                  {@link ResultState#MUST_BE_HANDLED}
+     * @param onFailure applied to this object otherwise, e.g. to inspect
+     *                  {@link #getErrorCode()}
+     * @param <U>       the type of the outcome
+     * @return the outcome of the applied function
+     */
+    public <U> U fold(final Function<? super T, ? extends U> onResult,
+            final Function<? super ResultObject<T>, ? extends U> onFailure) {
+        if (ResultState.MUST_BE_HANDLED.contains(state)) {
+            return onFailure.apply(this);
+        }
+        return onResult.apply(getResult());
+    }
+
     /**
      * @return {@linkplain Optional} containing a {@linkplain ResultDetail} if
      * available, {@linkplain Optional#empty()} otherwise
@@ -414,6 +472,37 @@ public class ResultObject<T> implements Serializable {
         return Optional.ofNullable(errorCode);
     }
 
+    /**
+     * In contrast to {@link #getResultDetail()} this does not count as handling the
+     * detail.
+     *
+     * @return true if a {@linkplain ResultDetail} is available
+     */
+    public boolean hasResultDetail() {
+        return null != resultDetail;
+    }
+
+    /**
+     * Allocation free variant of {@link #getResultDetail()}.
+     *
+     * @return the {@linkplain ResultDetail} if available, {@code null} otherwise
+     */
+    public ResultDetail resultDetailOrNull() {
+        resultDetailPrompted = true;
+        return resultDetail;
+    }
+
+    /**
+     * Allocation free variant of {@link #getErrorCode()}.
+     *
+     * @return the error code if available, {@code null} otherwise
+     */
+    @SuppressWarnings("java:S1452") // owolff: currently we allow any enum here
+    public Enum<?> errorCodeOrNull() {
+        errorCodePrompted = true;
+        return errorCode;
+    }
+
     /**
      * @param logPrefix to be appended to the log message. no additional space is
      *                  added between prefix and message.
@@ -429,7 +518,7 @@ public class ResultObject<T> implements Serializable {
         if (null != detail) {
             final var msg = nullToEmpty(logPrefix) + detail.getDetail();
             if (null != state) {
-                final var throwable = detail.getCause().orElse(null);
+                final var throwable = detail.causeOrNull();
                 switch (state) {
                     case VALID:
                         log.debug(msg, throwable);
@@ -445,7 +534,7 @@ public class ResultObject<T> implements Serializable {
                         break;
                 }
             } else {
-                log.debug(msg, detail.getCause());
+                log.debug(msg, detail.causeOrNull());
             }
         }
     }
@@ -470,6 +559,17 @@ public class ResultObject<T> implements Serializable {
         return false;
     }
 
+    /**
+     * Allocation free variant of {@link #containsErrorCode(Enum...)} for a precompiled
+     * group of codes.
+     *
+     * @param matcher to be checked, must not be null
+     * @return true if the error code of this object is matched
+     */
+    public boolean containsErrorCode(final ErrorCodeMatcher matcher) {
+        return matcher.matches(errorCode);
+    }
+
     /**
      * Builder factory method
      *
@@ -489,8 +589,6 @@ public class ResultObject<T> implements Serializable {
 
         private static final CuiLogger LOGGER = new CuiLogger(ResultObject.Builder.class.getName());
 
-        private static final String ALREADY_FAILED = "Already failed: ";
-
         private static final String THE_RESULT_DETAIL_IS_MANDATORY = "The ResultDetail is mandatory if state is not VALID.";
 
         private static final String STATE_IS_NOT_AVAILABLE = "It make no sense to continue because state is not available!";
@@ -507,6 +605,19 @@ public class ResultObject<T> implements Serializable {
 
         private Enum<?> tempErrorCode;
 
+        private BuilderDiagnostics diagnostics = BuilderDiagnostics.OFF;
+
+        /**
+         * @param diagnostics defining how replacing an already set
+         *                    {@link ResultDetail} is reported, defaults to
+         *                    {@link BuilderDiagnostics#OFF}
+         * @return {@linkplain ResultObject.Builder} in fluent api style
+         */
+        public ResultObject.Builder<S> diagnostics(final BuilderDiagnostics diagnostics) {
+            this.diagnostics = requireNonNull(diagnostics, "diagnostics");
+            return this;
+        }
+
         /**
          * Valid default result will be automatically used if no result exists
          *
@@ -541,7 +652,7 @@ public class ResultObject<T> implements Serializable {
          * @return {@linkplain ResultObject.Builder} in fluent api style
          */
         public ResultObject.Builder<S> resultDetail(final ResultDetail resultDetail) {
-            logDetail(ALREADY_FAILED, tempState, tempRequestResultDetail, LOGGER);
+            diagnostics.detailReplaced(tempState, tempRequestResultDetail, LOGGER);
             tempRequestResultDetail = resultDetail;
             return this;
         }
@@ -564,8 +675,8 @@ public class ResultObject<T> implements Serializable {
          */
         public ResultObject.Builder<S> extractStateAndDetailsAndErrorCodeFrom(final ResultObject<?> previousResult) {
             requireNonNull(previousResult, "PreviousResult must not be null");
-            return state(previousResult.getState()).resultDetail(previousResult.getResultDetail().orElse(null))
-                    .errorCode(previousResult.getErrorCode().orElse(null));
+            return state(previousResult.getState()).resultDetail(previousResult.resultDetailOrNull())
+                    .errorCode(previousResult.errorCodeOrNull());
         }
 
         /**
@@ -583,17 +694,17 @@ public class ResultObject<T> implements Serializable {
         public ResultObject<S> build() {
 
             if (null == tempResult && null == tempValidDefaultResult) {
-                LOGGER.warn(WARN.RESULT_CREATION_FAILED.format(NO_RESULTS_AVAILABLE));
+                LogRateLimiter.SHARED.warn(LOGGER, WARN.RESULT_CREATION_FAILED, NO_RESULTS_AVAILABLE);
                 throwUnsupportedOperationExceptionAndSaveThePreviousError(NO_RESULTS_AVAILABLE);
             }
 
             if (null == tempState) {
-                LOGGER.warn(WARN.RESULT_CREATION_FAILED.format(STATE_IS_NOT_AVAILABLE));
+                LogRateLimiter.SHARED.warn(LOGGER, WARN.RESULT_CREATION_FAILED, STATE_IS_NOT_AVAILABLE);
                 throwUnsupportedOperationExceptionAndSaveThePreviousError(STATE_IS_NOT_AVAILABLE);
             }
 
             if (!ResultState.VALID.equals(tempState) && null == tempRequestResultDetail) {
-                LOGGER.warn(WARN.MISSING_RESULT_DETAIL.format(tempState));
+                LogRateLimiter.SHARED.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, tempState);
                 throwUnsupportedOperationExceptionAndSaveThePreviousError(THE_RESULT_DETAIL_IS_MANDATORY);
             }
 
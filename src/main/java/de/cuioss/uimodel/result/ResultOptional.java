@@ -158,15 +158,19 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
      * @param mapper         The function to transform the result
      */
     public <R extends Serializable> ResultOptional(ResultOptional<R> previousResult, Function<R, T> mapper) {
-        super(previousResult.getState(), previousResult.getResultDetail().orElse(null),
-                previousResult.getErrorCode().orElse(null));
-        if (previousResult.isValid() && previousResult.getResult().isPresent()) {
+        super(previousResult.getState(), previousResult.resultDetailOrNull(), previousResult.errorCodeOrNull());
+        if (previousResult.isValid() && previousResult.isPresent()) {
             result = mapper.apply(previousResult.result);
         } else {
             result = null;
         }
     }
 
+    private ResultOptional(final ResultOptional<T> original) {
+        super(original);
+        result = original.result;
+    }
+
     /**
      * Creates a new ResultOptional with the specified result and state.
      *
@@ -183,6 +187,20 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public ResultOptional<T> copy() {
+        return new ResultOptional<>(this);
+    }
+
+    /**
+     * Allocation free variant of {@code getResult().isPresent()}.
+     *
+     * @return true if a result is present
+     */
+    public boolean isPresent() {
+        return null != result;
+    }
+
     /**
      * Builder factory method
      *
@@ -201,8 +219,9 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
 
         private static final String THE_RESULT_DETAIL_IS_MANDATORY = "The ResultDetail is mandatory if state is not VALID.";
 
+        private static final CuiLogger LOGGER = new CuiLogger(ResultOptional.Builder.class);
+
         private static final String STATE_IS_NOT_AVAILABLE = "It make no sense to continue because state is not available!";
-        private static final String ALREADY_FAILED = "Already failed: ";
 
         private S tempResult;
 
@@ -212,6 +231,20 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
 
         private Enum<?> tempErrorCode;
 
+        private BuilderDiagnostics diagnostics = BuilderDiagnostics.OFF;
+
+        /**
+         * @param diagnostics defining how replacing an already set
+         *                    {@link ResultDetail} is reported, defaults to
+         *                    {@link BuilderDiagnostics#OFF}
+         * @return {@linkplain de.cuioss.uimodel.result.ResultOptional.Builder} in
+         * fluent api style
+         */
+        public ResultOptional.Builder<S> diagnostics(final BuilderDiagnostics diagnostics) {
+            this.diagnostics = requireNonNull(diagnostics, "diagnostics");
+            return this;
+        }
+
         /**
          * @param result is mandatory
          * @return {@linkplain de.cuioss.uimodel.result.ResultOptional.Builder} in
@@ -237,8 +270,7 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
          * @return {@linkplain ResultObject.Builder} in fluent api style
          */
         public ResultOptional.Builder<S> resultDetail(final ResultDetail resultDetail) {
-            ResultObject.logDetail(ALREADY_FAILED, tempState, tempRequestResultDetail,
-                    new CuiLogger(ResultOptional.Builder.class));
+            diagnostics.detailReplaced(tempState, tempRequestResultDetail, LOGGER);
             tempRequestResultDetail = resultDetail;
             return this;
         }
@@ -261,8 +293,8 @@ public class ResultOptional<T extends Serializable> extends ResultObject<Optiona
          */
         public ResultOptional.Builder<S> extractStateAndDetailsAndErrorCodeFrom(final ResultObject<?> previousResult) {
             requireNonNull(previousResult, "PreviousResult must not be null");
-            return state(previousResult.getState()).resultDetail(previousResult.getResultDetail().orElse(null))
-                    .errorCode(previousResult.getErrorCode().orElse(null));
+            return state(previousResult.getState()).resultDetail(previousResult.resultDetailOrNull())
+                    .errorCode(previousResult.errorCodeOrNull());
         }
 
         /**
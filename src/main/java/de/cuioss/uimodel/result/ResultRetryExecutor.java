@@ -0,0 +1,442 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Executes calls returning {@link ResultObject}s, recovering from transient failures:
+ * <ul>
+ *   <li>Results in a state {@link ResultState#MUST_BE_HANDLED} with a retryable error
+ *   code are retried with exponential backoff, spread by a random jitter.</li>
+ *   <li>If hedging is enabled, a second call is fired if the first one did not complete
+ *   within the hedge delay. The first {@link ResultState#VALID} result wins, the
+ *   other call is cancelled by interrupting it. Without a fixed hedge delay, the 95th
+ *   percentile of the observed latencies is used, once enough calls have been
+ *   recorded.</li>
+ * </ul>
+ *
+ * <p>Exceptions thrown by the call are not retried but rethrown. The number of attempts
+ * per execution and the latencies of the calls are recorded as histograms.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ResultRetryExecutor executor = ResultRetryExecutor.builder()
+ *         .maxAttempts(3)
+ *         .initialBackoff(Duration.ofMillis(50))
+ *         .hedging(true)
+ *         .build();
+ * ResultObject&lt;Patient&gt; patient = executor.execute(() -&gt; service.findPatient(id));
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+public class ResultRetryExecutor {
+
+    private static final CuiLogger LOGGER = new CuiLogger(ResultRetryExecutor.class);
+
+    /** Maximum attempts used if none are configured. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** Upper limit for the configured maximum attempts. */
+    public static final int MAX_ATTEMPTS_LIMIT = 100;
+
+    /** Initial backoff used if none is configured. */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+
+    /** Maximum backoff used if none is configured. */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(2);
+
+    /** Jitter used if none is configured. */
+    public static final double DEFAULT_JITTER = 0.2;
+
+    /** Retryable error codes used if none are configured. */
+    public static final ErrorCodeMatcher DEFAULT_RETRYABLE = ErrorCodeMatcher.of(
+            ResultErrorCodes.SERVICE_NOT_AVAILABLE, ResultErrorCodes.REQUEST_TIMEOUT,
+            ResultErrorCodes.TOO_MANY_REQUESTS, ResultErrorCodes.BAD_GATEWAY, ResultErrorCodes.GATEWAY_TIMEOUT);
+
+    /** Number of recorded latencies needed for deriving the hedge delay. */
+    static final int HEDGE_MIN_SAMPLES = 20;
+
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    private static final int LATENCY_BUCKETS = 64;
+
+    /** The maximum number of calls per execution, not counting hedged calls. */
+    @Getter
+    private final int maxAttempts;
+
+    private final long initialBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final double jitter;
+
+    /** The error codes triggering a retry. */
+    @Getter
+    private final ErrorCodeMatcher retryable;
+
+    /** Whether hedging is enabled. */
+    @Getter
+    private final boolean hedging;
+
+    private final long hedgeDelayNanos;
+
+    private final Executor hedgeExecutor;
+
+    private final DoubleSupplier random;
+
+    private final AtomicLongArray attempts;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS);
+
+    private final LongAdder hedges = new LongAdder();
+
+    /**
+     * @param maxAttempts    the maximum number of calls per execution, between 1 and
+     *                       {@link #MAX_ATTEMPTS_LIMIT}, defaults to
+     *                       {@link #DEFAULT_MAX_ATTEMPTS}
+     * @param initialBackoff the delay before the first retry, doubled for every further
+     *                       retry, defaults to {@link #DEFAULT_INITIAL_BACKOFF}
+     * @param maxBackoff     the maximum delay before a retry, defaults to
+     *                       {@link #DEFAULT_MAX_BACKOFF}
+     * @param jitter         the maximum relative deviation of a delay, between 0 and 1,
+     *                       defaults to {@link #DEFAULT_JITTER}
+     * @param retryable      the error codes triggering a retry, defaults to
+     *                       {@link #DEFAULT_RETRYABLE}
+     * @param hedging        whether hedging is enabled, defaults to false
+     * @param hedgeDelay     the delay before a hedged call is fired. If null, the 95th
+     *                       percentile of the observed latencies is used.
+     * @param hedgeExecutor  running the calls if hedging is enabled, defaults to
+     *                       starting a virtual thread per call
+     * @param random         source of random values between 0 (inclusive) and 1
+     *                       (exclusive), defaults to {@link ThreadLocalRandom}
+     */
+    @Builder
+    public ResultRetryExecutor(final Integer maxAttempts, final Duration initialBackoff, final Duration maxBackoff,
+            final Double jitter, final ErrorCodeMatcher retryable, final Boolean hedging, final Duration hedgeDelay,
+            final Executor hedgeExecutor, final DoubleSupplier random) {
+        this.maxAttempts = null == maxAttempts ? DEFAULT_MAX_ATTEMPTS : maxAttempts;
+        initialBackoffNanos = (null == initialBackoff ? DEFAULT_INITIAL_BACKOFF : initialBackoff).toNanos();
+        maxBackoffNanos = Math.max(initialBackoffNanos,
+                (null == maxBackoff ? DEFAULT_MAX_BACKOFF : maxBackoff).toNanos());
+        this.jitter = null == jitter ? DEFAULT_JITTER : jitter;
+        hedgeDelayNanos = null == hedgeDelay ? -1 : hedgeDelay.toNanos();
+        if (this.maxAttempts < 1 || this.maxAttempts > MAX_ATTEMPTS_LIMIT || initialBackoffNanos < 0
+                || this.jitter < 0 || this.jitter > 1 || null != hedgeDelay && hedgeDelayNanos < 0) {
+            throw new IllegalArgumentException("maxAttempts must be between 1 and " + MAX_ATTEMPTS_LIMIT
+                    + ", durations not negative and jitter between 0 and 1");
+        }
+        this.retryable = null == retryable ? DEFAULT_RETRYABLE : retryable;
+        this.hedging = Boolean.TRUE.equals(hedging);
+        this.hedgeExecutor = null == hedgeExecutor ? command -> Thread.ofVirtual().start(command) : hedgeExecutor;
+        this.random = null == random ? () -> ThreadLocalRandom.current().nextDouble() : random;
+        attempts = new AtomicLongArray(this.maxAttempts + 1);
+    }
+
+    /**
+     * Executes the given call, retrying and hedging it as configured.
+     *
+     * @param call to be executed, must not be null and must not return null
+     * @param <R>  the type of the result
+     * @return the first result not to be retried, or the result of the last attempt
+     */
+    public <R extends ResultObject<?>> R execute(@NonNull final Supplier<R> call) {
+        int attempt = 1;
+        R result = attempt(call);
+        while (attempt < maxAttempts && isRetryable(result)) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug(e, "Interrupted while waiting for retry, returning last result");
+                break;
+            }
+            attempt++;
+            result = attempt(call);
+        }
+        attempts.incrementAndGet(attempt);
+        return result;
+    }
+
+    /**
+     * @param result to be checked
+     * @return true if the result must be handled and carries a retryable error code
+     */
+    public boolean isRetryable(final ResultObject<?> result) {
+        return ResultState.MUST_BE_HANDLED.contains(result.getState()) && result.containsErrorCode(retryable);
+    }
+
+    /**
+     * @param attemptCount the number of attempts
+     * @return the number of executions finished after the given number of attempts
+     */
+    public long getAttemptCount(final int attemptCount) {
+        return attemptCount < 1 || attemptCount > maxAttempts ? 0 : attempts.get(attemptCount);
+    }
+
+    /**
+     * @return the histogram of call latencies. The element at index {@code i} counts
+     *         the calls with a latency below {@code 2^i} microseconds, but not below
+     *         {@code 2^(i-1)} microseconds.
+     */
+    public long[] getLatencyHistogram() {
+        final var histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = latencies.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * @param percentile between 0 and 1
+     * @return the upper bound of the latency bucket containing the given percentile,
+     *         {@link Duration#ZERO} if no call was recorded
+     */
+    public Duration getLatencyPercentile(final double percentile) {
+        final long nanos = latencyPercentileNanos(percentile, 1);
+        return Duration.ofNanos(Math.max(0, nanos));
+    }
+
+    /**
+     * @return the number of hedged calls fired
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * @param attempt the number of the failed attempt, starting with 1
+     * @return the delay before the next attempt in nanoseconds, including jitter
+     */
+    long backoffNanos(final int attempt) {
+        long delay = initialBackoffNanos;
+        for (int i = 1; i < attempt && delay < maxBackoffNanos; i++) {
+            delay = Math.min(maxBackoffNanos, delay * 2);
+        }
+        final double deviation = (random.getAsDouble() * 2 - 1) * jitter;
+        return Math.max(0, (long) (delay * (1 + deviation)));
+    }
+
+    private <R extends ResultObject<?>> R attempt(final Supplier<R> call) {
+        final long delay = hedging ? hedgeDelayNanos() : -1;
+        if (delay < 0) {
+            return timed(call);
+        }
+        final var primary = submit(call);
+        try {
+            return primary.future.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.debug("No result within %s ns, hedging call", delay);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return join(primary.future);
+        }
+        hedges.increment();
+        final var secondary = submit(call);
+        final var winner = new CompletableFuture<R>();
+        primary.future.thenAccept(result -> completeIfValid(winner, result));
+        secondary.future.thenAccept(result -> completeIfValid(winner, result));
+        CompletableFuture.allOf(primary.future, secondary.future)
+                .whenComplete((ignored, failure) -> completeWithFallback(winner, primary.future,
+                        secondary.future, failure));
+        winner.whenComplete((result, failure) -> {
+            primary.cancel();
+            secondary.cancel();
+        });
+        return join(winner);
+    }
+
+    private <R extends ResultObject<?>> HedgedCall<R> submit(final Supplier<R> call) {
+        final var hedgedCall = new HedgedCall<R>();
+        hedgeExecutor.execute(() -> hedgedCall.run(() -> timed(call)));
+        return hedgedCall;
+    }
+
+    private static <R extends ResultObject<?>> void completeIfValid(final CompletableFuture<R> winner,
+            final R result) {
+        if (result.isValid()) {
+            winner.complete(result);
+        }
+    }
+
+    /**
+     * Completes the winner once both calls are done, as the callbacks of
+     * {@link #completeIfValid(CompletableFuture, ResultObject)} may not have run yet: A
+     * valid result of either call is preferred, followed by any result of the primary
+     * and the secondary call, and finally the failure.
+     */
+    private static <R extends ResultObject<?>> void completeWithFallback(final CompletableFuture<R> winner,
+            final CompletableFuture<R> primary, final CompletableFuture<R> secondary, final Throwable failure) {
+        if (isValid(primary)) {
+            winner.complete(primary.join());
+        } else if (isValid(secondary)) {
+            winner.complete(secondary.join());
+        } else if (!primary.isCompletedExceptionally()) {
+            winner.complete(primary.join());
+        } else if (!secondary.isCompletedExceptionally()) {
+            winner.complete(secondary.join());
+        } else {
+            winner.completeExceptionally(failure);
+        }
+    }
+
+    private static boolean isValid(final CompletableFuture<? extends ResultObject<?>> future) {
+        return !future.isCompletedExceptionally() && future.join().isValid();
+    }
+
+    private <R extends ResultObject<?>> R timed(final Supplier<R> call) {
+        final long start = System.nanoTime();
+        try {
+            final R result = call.get();
+            if (null == result) {
+                throw new NullPointerException("call returned null");
+            }
+            return result;
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    private void record(final long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        latencies.incrementAndGet(Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+    }
+
+    private long hedgeDelayNanos() {
+        return hedgeDelayNanos >= 0 ? hedgeDelayNanos : latencyPercentileNanos(HEDGE_PERCENTILE, HEDGE_MIN_SAMPLES);
+    }
+
+    private long latencyPercentileNanos(final double percentile, final int minSamples) {
+        final long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+        if (total < minSamples) {
+            return -1;
+        }
+        final long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return TimeUnit.MICROSECONDS.toNanos(1L << Math.min(i, 62));
+            }
+        }
+        return TimeUnit.MICROSECONDS.toNanos(1L << 62);
+    }
+
+    private static <R> R join(final CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(final Throwable failure) {
+        if (failure instanceof CompletionException completion && null != completion.getCause()) {
+            return unwrap(completion.getCause());
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(failure);
+    }
+
+    /**
+     * A call run by the hedge executor that can be cancelled by interrupting its
+     * thread. The interrupt is confined to the call: once it returned, its thread is
+     * not interrupted anymore and an interrupt pending from {@link #cancel()} is
+     * cleared. Interrupts from other sources, e.g. a shutdown of the executor, are
+     * kept.
+     */
+    private static final class HedgedCall<R> {
+
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** Guarded by {@link #lock}. */
+        private Thread runner;
+
+        /** Whether {@link #cancel()} interrupted the runner, guarded by {@link #lock}. */
+        private boolean interruptedByCancel;
+
+        void run(final Supplier<R> call) {
+            lock.lock();
+            try {
+                if (future.isDone()) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                future.complete(call.get());
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            } finally {
+                lock.lock();
+                try {
+                    runner = null;
+                    if (interruptedByCancel) {
+                        Thread.interrupted();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        void cancel() {
+            lock.lock();
+            try {
+                if (future.cancel(false) && null != runner && !runner.isInterrupted()) {
+                    interruptedByCancel = true;
+                    runner.interrupt();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
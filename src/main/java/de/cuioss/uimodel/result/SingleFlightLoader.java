@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coalesces concurrent loads of the same key: While a result for a key is being loaded,
+ * further callers for that key wait for it instead of calling the loader themselves.
+ * This flattens load spikes, e.g. when a popular entry of a {@link ResultCache} expires.
+ *
+ * <p>All callers receive the same state, {@link ResultDetail} and error code. The
+ * caller triggering the load receives the loaded instance, waiting callers receive
+ * their own copy, created by the given copier, usually {@link ResultObject#copy()}. If
+ * the loader throws an exception, it is rethrown to all callers. Waiting does not use
+ * {@code synchronized}, so virtual threads are not pinned.
+ *
+ * <p>A loader calling {@link #get(Object)} for the key it is loading would wait for
+ * itself. Such a recursive call on the loading thread fails with an
+ * {@link IllegalStateException} instead.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * SingleFlightLoader&lt;String, ResultObject&lt;CodeList&gt;&gt; codeLists =
+ *         new SingleFlightLoader&lt;&gt;(service::loadCodeList, ResultObject::copy);
+ * ResultCache&lt;String, ResultObject&lt;CodeList&gt;&gt; cache = ResultCache
+ *         .&lt;String, ResultObject&lt;CodeList&gt;&gt;builder()
+ *         .loader(codeLists::get)
+ *         .copier(ResultObject::copy)
+ *         .build();
+ * </pre>
+ *
+ * @author Eugen Fischer
+ * @param <K> the type of the keys
+ * @param <R> the type of the results
+ * @since 2.5
+ */
+public class SingleFlightLoader<K, R extends ResultObject<?>> {
+
+    /**
+     * A load in progress.
+     *
+     * @param owner  the thread calling the loader
+     * @param result completed by the owner
+     */
+    private record Flight<R>(Thread owner, CompletableFuture<R> result) {
+    }
+
+    private final Function<? super K, ? extends R> loader;
+
+    private final UnaryOperator<R> copier;
+
+    private final Map<K, Flight<R>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param loader loading the results, must not be null and must not return null
+     * @param copier creating the copies handed to waiting callers, must not be null,
+     *               e.g. {@code ResultObject::copy}
+     */
+    public SingleFlightLoader(@NonNull final Function<? super K, ? extends R> loader,
+            @NonNull final UnaryOperator<R> copier) {
+        this.loader = loader;
+        this.copier = copier;
+    }
+
+    /**
+     * Loads the result for the given key or waits for a load already in progress.
+     *
+     * @param key to be loaded, must not be null
+     * @return the result, never null
+     * @throws IllegalStateException if called by the loader for the key it is loading
+     */
+    public R get(@NonNull final K key) {
+        final var own = new Flight<R>(Thread.currentThread(), new CompletableFuture<>());
+        final var pending = inFlight.putIfAbsent(key, own);
+        if (null != pending) {
+            if (pending.owner() == own.owner()) {
+                throw new IllegalStateException("Recursive load of key " + key);
+            }
+            coalesced.increment();
+            return copier.apply(await(pending.result()));
+        }
+        loads.increment();
+        try {
+            final R loaded = requireNonNull(loader.apply(key), "loaded result");
+            own.result().complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            own.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * @return the number of loads currently in progress
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of calls to the loader
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return the number of calls served by waiting for a load in progress
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private R await(final CompletableFuture<R> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
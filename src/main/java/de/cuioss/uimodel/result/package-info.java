@@ -80,6 +80,14 @@
  *   <li>{@link de.cuioss.uimodel.result.ResultState} - Enumeration of possible result states</li>
  *   <li>{@link de.cuioss.uimodel.result.ResultOptional} - Optional-based result handling</li>
  *   <li>{@link de.cuioss.uimodel.result.ResultErrorCodes} - Standardized error codes</li>
+ *   <li>{@link de.cuioss.uimodel.result.BuilderDiagnostics} - Diagnostics of the builders</li>
+ *   <li>{@link de.cuioss.uimodel.result.ExpectedResultFailure} - Stackless cause for expected failures</li>
+ *   <li>{@link de.cuioss.uimodel.result.ErrorCodeMatcher} - Precompiled group of error codes</li>
+ *   <li>{@link de.cuioss.uimodel.result.ErrorCodeDispatcher} - Routing of results by error code</li>
+ *   <li>{@link de.cuioss.uimodel.result.ResultCache} - Outcome dependent caching of results</li>
+ *   <li>{@link de.cuioss.uimodel.result.SingleFlightLoader} - Coalescing of concurrent loads</li>
+ *   <li>{@link de.cuioss.uimodel.result.ResultRetryExecutor} - Retrying and hedging of calls</li>
+ *   <li>{@link de.cuioss.uimodel.result.ResultCollectors} - Single pass aggregation of result streams</li>
  * </ul>
  *
  * <h2>Usage Patterns</h2>
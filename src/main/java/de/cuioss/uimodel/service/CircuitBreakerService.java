@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.service;
+
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static de.cuioss.uimodel.UiModelLogMessages.INFO;
+import static de.cuioss.uimodel.UiModelLogMessages.WARN;
+
+/**
+ * Decorator for an {@link OptionalService} caching its {@link ServiceState} and
+ * protecting it by a circuit breaker. Within the time to live of the cached state,
+ * {@link #getServiceState()} and {@link #isServiceAvailable()} do not call the
+ * delegate at all.
+ *
+ * <p>Probing the delegate is considered a failure if it throws a
+ * {@link RuntimeException} or returns {@link ServiceState#TEMPORARILY_UNAVAILABLE}, a
+ * thrown exception being mapped to {@link ServiceState#TEMPORARILY_UNAVAILABLE}. After
+ * the configured number of consecutive failures the circuit {@link CircuitState#OPEN
+ * opens}: The delegate is not probed for the open duration. Afterwards a single caller
+ * probes the delegate ({@link CircuitState#HALF_OPEN}), closing the circuit on success
+ * and re-opening it otherwise.
+ *
+ * <p>Only one caller probes at a time, concurrent callers are served the last known
+ * state, {@link ServiceState#TEMPORARILY_UNAVAILABLE} before the first probe completed.
+ * As the cached state is shared, the delegate should not return user specific states,
+ * unless the decorator is scoped to the user as well.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * OptionalService storage = CircuitBreakerService.builder()
+ *         .delegate(new FileStorageService())
+ *         .timeToLive(Duration.ofSeconds(10))
+ *         .build();
+ * if (storage.isServiceAvailable()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+public class CircuitBreakerService implements OptionalService {
+
+    private static final CuiLogger LOGGER = new CuiLogger(CircuitBreakerService.class);
+
+    private static final CircuitState[] STATES = CircuitState.values();
+
+    /** Time to live used if none is configured. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    /** Open duration used if none is configured. */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    /** Failure threshold used if none is configured. */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /**
+     * The states of the circuit.
+     */
+    public enum CircuitState {
+        /** The delegate is probed whenever the cached state expires. */
+        CLOSED,
+        /** The delegate is not probed, the service is considered unavailable. */
+        OPEN,
+        /** A single probe decides whether the circuit closes or opens again. */
+        HALF_OPEN
+    }
+
+    private record Snapshot(ServiceState serviceState, CircuitState circuitState, long expiresAt,
+            int consecutiveFailures) {
+
+        Snapshot expiringAt(final long time) {
+            return new Snapshot(serviceState, circuitState, time, consecutiveFailures);
+        }
+    }
+
+    /** The decorated service. */
+    @Getter
+    private final OptionalService delegate;
+
+    private final long timeToLiveNanos;
+
+    private final long openDurationNanos;
+
+    private final int failureThreshold;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private final AtomicLongArray transitions = new AtomicLongArray(STATES.length * STATES.length);
+
+    private final LongAdder probes = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param delegate         the service to be protected, must not be null
+     * @param timeToLive       of a successfully probed state, defaults to
+     *                         {@link #DEFAULT_TIME_TO_LIVE}
+     * @param openDuration     the time the delegate is not probed after the circuit
+     *                         opened, defaults to {@link #DEFAULT_OPEN_DURATION}
+     * @param failureThreshold the number of consecutive failures opening the circuit,
+     *                         defaults to {@link #DEFAULT_FAILURE_THRESHOLD}
+     * @param nanoClock        source of the current time in nanoseconds, defaults to
+     *                         {@link System#nanoTime()}
+     */
+    @Builder
+    public CircuitBreakerService(@NonNull final OptionalService delegate, final Duration timeToLive,
+            final Duration openDuration, final Integer failureThreshold, final LongSupplier nanoClock) {
+        this.delegate = delegate;
+        timeToLiveNanos = (null == timeToLive ? DEFAULT_TIME_TO_LIVE : timeToLive).toNanos();
+        openDurationNanos = (null == openDuration ? DEFAULT_OPEN_DURATION : openDuration).toNanos();
+        this.failureThreshold = null == failureThreshold ? DEFAULT_FAILURE_THRESHOLD : failureThreshold;
+        if (timeToLiveNanos < 0 || openDurationNanos < 0 || this.failureThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "Durations must not be negative and failureThreshold must be positive");
+        }
+        this.nanoClock = null == nanoClock ? System::nanoTime : nanoClock;
+        snapshot = new Snapshot(ServiceState.TEMPORARILY_UNAVAILABLE, CircuitState.CLOSED,
+                this.nanoClock.getAsLong(), 0);
+    }
+
+    /**
+     * Returns the cached state, probing the delegate if it expired.
+     *
+     * @return the current state, never null
+     */
+    @Override
+    public ServiceState getServiceState() {
+        final var current = snapshot;
+        final long now = nanoClock.getAsLong();
+        if (now - current.expiresAt() < 0 || !probing.compareAndSet(false, true)) {
+            return current.serviceState();
+        }
+        try {
+            final var latest = snapshot;
+            if (now - latest.expiresAt() < 0) {
+                return latest.serviceState();
+            }
+            return probe(latest, now).serviceState();
+        } finally {
+            probing.set(false);
+        }
+    }
+
+    /**
+     * @return the current state of the circuit, {@link CircuitState#HALF_OPEN} while
+     *         the delegate is probed after the open duration
+     */
+    public CircuitState getCircuitState() {
+        return snapshot.circuitState();
+    }
+
+    /**
+     * Lets the cached state expire, so the next call probes the delegate, unless the
+     * circuit is open.
+     */
+    public void invalidate() {
+        final var current = snapshot;
+        if (CircuitState.OPEN != current.circuitState()) {
+            snapshot = current.expiringAt(nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * @param from the previous state
+     * @param to   the new state
+     * @return the number of transitions from one circuit state to the other
+     */
+    public long getTransitionCount(@NonNull final CircuitState from, @NonNull final CircuitState to) {
+        return transitions.get(transitionIndex(from, to));
+    }
+
+    /**
+     * @return the number of calls to the delegate
+     */
+    public long getProbeCount() {
+        return probes.sum();
+    }
+
+    /**
+     * @return the number of failed calls to the delegate
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private Snapshot probe(final Snapshot current, final long now) {
+        var circuitState = current.circuitState();
+        if (CircuitState.OPEN == circuitState) {
+            transition(circuitState, CircuitState.HALF_OPEN);
+            circuitState = CircuitState.HALF_OPEN;
+            // Visible while the probe runs, concurrent callers still get the last known state
+            snapshot = new Snapshot(current.serviceState(), circuitState, current.expiresAt(),
+                    current.consecutiveFailures());
+        }
+        probes.increment();
+        ServiceState probed;
+        try {
+            probed = delegate.getServiceState();
+        } catch (RuntimeException e) {
+            LOGGER.warn(e, WARN.SERVICE_PROBE_FAILED.format(delegate.getClass().getName()));
+            probed = ServiceState.TEMPORARILY_UNAVAILABLE;
+        }
+        if (null == probed) {
+            probed = ServiceState.TEMPORARILY_UNAVAILABLE;
+        }
+        final Snapshot next;
+        if (ServiceState.TEMPORARILY_UNAVAILABLE == probed) {
+            failures.increment();
+            final int consecutiveFailures = current.consecutiveFailures() + 1;
+            if (CircuitState.HALF_OPEN == circuitState || consecutiveFailures >= failureThreshold) {
+                next = new Snapshot(probed, CircuitState.OPEN, now + openDurationNanos, consecutiveFailures);
+            } else {
+                next = new Snapshot(probed, CircuitState.CLOSED, now + timeToLiveNanos, consecutiveFailures);
+            }
+        } else {
+            next = new Snapshot(probed, CircuitState.CLOSED, now + timeToLiveNanos, 0);
+        }
+        transition(circuitState, next.circuitState());
+        snapshot = next;
+        return next;
+    }
+
+    private void transition(final CircuitState from, final CircuitState to) {
+        if (from != to) {
+            transitions.incrementAndGet(transitionIndex(from, to));
+            LOGGER.info(INFO.CIRCUIT_STATE_CHANGED.format(delegate.getClass().getName(), from, to));
+        }
+    }
+
+    private static int transitionIndex(final CircuitState from, final CircuitState to) {
+        return from.ordinal() * STATES.length + to.ordinal();
+    }
+}
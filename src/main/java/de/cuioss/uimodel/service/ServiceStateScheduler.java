@@ -0,0 +1,354 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.service;
+
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+import static de.cuioss.uimodel.UiModelLogMessages.WARN;
+
+/**
+ * Refreshes the {@link ServiceState} of registered {@link OptionalService}s in the
+ * background, so request threads are served the last known state without calling the
+ * services themselves.
+ *
+ * <p>Each service is probed on a virtual thread. The probes are repeated after the
+ * refresh interval, spread by a random jitter so that the probes of many services do
+ * not coincide. While a service fails, i.e. throws an exception, does not answer within
+ * the probe timeout or reports {@link ServiceState#TEMPORARILY_UNAVAILABLE}, the
+ * interval is doubled up to the maximum backoff. A probe exceeding the timeout is
+ * cancelled by interrupting it.
+ *
+ * <p>Changes of the state are published as {@link StateTransition}s via
+ * {@link #getTransitions()}, allowing views to react without polling.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * ServiceStateScheduler scheduler = ServiceStateScheduler.builder()
+ *         .refreshInterval(Duration.ofSeconds(30))
+ *         .build();
+ * OptionalService storage = scheduler.register(new FileStorageService());
+ * scheduler.getTransitions().subscribe(subscriber);
+ * ...
+ * if (storage.isServiceAvailable()) { // served from the last probe
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 2.5
+ */
+public class ServiceStateScheduler implements AutoCloseable {
+
+    private static final CuiLogger LOGGER = new CuiLogger(ServiceStateScheduler.class);
+
+    /** Refresh interval used if none is configured. */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    /** Maximum backoff used if none is configured. */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+
+    /** Jitter used if none is configured. */
+    public static final double DEFAULT_JITTER = 0.1;
+
+    /** Probe timeout used if none is configured. */
+    public static final Duration DEFAULT_PROBE_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * A change of the state of a registered service.
+     *
+     * @param service  the registered service
+     * @param previous the state before
+     * @param current  the state after the change
+     */
+    public record StateTransition(ScheduledService service, ServiceState previous, ServiceState current) {
+    }
+
+    /**
+     * Handle of a registered service serving its last known state.
+     */
+    public final class ScheduledService implements OptionalService {
+
+        /** The registered service. */
+        @Getter
+        private final OptionalService delegate;
+
+        /** Guards the update of {@link #state} together with {@link #consecutiveFailures}. */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private volatile ServiceState state = ServiceState.TEMPORARILY_UNAVAILABLE;
+
+        private int consecutiveFailures;
+
+        private volatile ScheduledFuture<?> next;
+
+        private volatile boolean registered = true;
+
+        private ScheduledService(final OptionalService delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * @return the last known state, {@link ServiceState#TEMPORARILY_UNAVAILABLE}
+         *         before the first probe completed
+         */
+        @Override
+        public ServiceState getServiceState() {
+            return state;
+        }
+
+        /**
+         * @return the number of consecutive failed probes
+         */
+        public int getConsecutiveFailures() {
+            lock.lock();
+            try {
+                return consecutiveFailures;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ScheduledService(" + delegate + ", " + state + ")";
+        }
+    }
+
+    private final long refreshIntervalNanos;
+
+    private final long maxBackoffNanos;
+
+    private final double jitter;
+
+    private final long probeTimeoutNanos;
+
+    private final DoubleSupplier random;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ExecutorService probeExecutor;
+
+    private final SubmissionPublisher<StateTransition> publisher;
+
+    private final Map<OptionalService, ScheduledService> services = new ConcurrentHashMap<>();
+
+    /**
+     * @param refreshInterval the interval between two probes of a healthy service,
+     *                        defaults to {@link #DEFAULT_REFRESH_INTERVAL}
+     * @param maxBackoff      the maximum interval between two probes of a failing
+     *                        service, defaults to {@link #DEFAULT_MAX_BACKOFF}
+     * @param jitter          the maximum relative deviation of an interval, between 0
+     *                        and 1, defaults to {@link #DEFAULT_JITTER}
+     * @param probeTimeout    the maximum duration of a single probe, defaults to
+     *                        {@link #DEFAULT_PROBE_TIMEOUT}
+     * @param random          source of random values between 0 (inclusive) and 1
+     *                        (exclusive), defaults to {@link ThreadLocalRandom}
+     */
+    @Builder
+    public ServiceStateScheduler(final Duration refreshInterval, final Duration maxBackoff, final Double jitter,
+            final Duration probeTimeout, final DoubleSupplier random) {
+        refreshIntervalNanos = (null == refreshInterval ? DEFAULT_REFRESH_INTERVAL : refreshInterval).toNanos();
+        maxBackoffNanos = Math.max(refreshIntervalNanos,
+                (null == maxBackoff ? DEFAULT_MAX_BACKOFF : maxBackoff).toNanos());
+        this.jitter = null == jitter ? DEFAULT_JITTER : jitter;
+        probeTimeoutNanos = (null == probeTimeout ? DEFAULT_PROBE_TIMEOUT : probeTimeout).toNanos();
+        if (refreshIntervalNanos <= 0 || probeTimeoutNanos <= 0 || this.jitter < 0 || this.jitter > 1) {
+            throw new IllegalArgumentException(
+                    "refreshInterval and probeTimeout must be positive and jitter between 0 and 1");
+        }
+        this.random = null == random ? () -> ThreadLocalRandom.current().nextDouble() : random;
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("service-state-scheduler").factory());
+        probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        publisher = new SubmissionPublisher<>(probeExecutor, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Registers the given service and schedules its first probe immediately. Registering
+     * a service twice returns the existing handle.
+     *
+     * @param service to be registered, must not be null
+     * @return the handle serving the last known state of the service
+     */
+    public ScheduledService register(@NonNull final OptionalService service) {
+        return services.computeIfAbsent(service, key -> {
+            final var scheduled = new ScheduledService(key);
+            schedule(scheduled, 0);
+            return scheduled;
+        });
+    }
+
+    /**
+     * Stops probing the given service.
+     *
+     * @param service as given to {@link #register(OptionalService)}
+     */
+    public void unregister(final OptionalService service) {
+        final var scheduled = services.remove(service);
+        if (null != scheduled) {
+            scheduled.registered = false;
+            final var next = scheduled.next;
+            if (null != next) {
+                next.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * @return the handles of all registered services
+     */
+    public List<ScheduledService> getServices() {
+        return List.copyOf(services.values());
+    }
+
+    /**
+     * @return the publisher of all state changes. Subscribers are notified on virtual
+     *         threads, transitions are dropped for subscribers not keeping up.
+     */
+    public Flow.Publisher<StateTransition> getTransitions() {
+        return publisher;
+    }
+
+    /**
+     * Probes the given service independent of its schedule, waiting for the probe at
+     * most the probe timeout.
+     *
+     * @param service to be probed, must not be null
+     * @return the new state
+     */
+    public ServiceState refreshNow(@NonNull final ScheduledService service) {
+        return probe(service);
+    }
+
+    /**
+     * Stops all probes and completes the publisher. Probes already running complete,
+     * but their transitions are not published anymore.
+     */
+    @Override
+    public void close() {
+        services.keySet().forEach(this::unregister);
+        scheduler.shutdownNow();
+        publisher.close();
+        probeExecutor.shutdown();
+    }
+
+    /**
+     * @param consecutiveFailures the number of consecutive failures
+     * @return the delay before the next probe in nanoseconds, including jitter
+     */
+    long nextDelayNanos(final int consecutiveFailures) {
+        long delay = refreshIntervalNanos;
+        for (int i = 0; i < consecutiveFailures && delay < maxBackoffNanos; i++) {
+            delay = Math.min(maxBackoffNanos, delay * 2);
+        }
+        final double deviation = (random.getAsDouble() * 2 - 1) * jitter;
+        return Math.max(0, (long) (delay * (1 + deviation)));
+    }
+
+    private ServiceState probe(final ScheduledService service) {
+        var probed = call(service.delegate);
+        if (null == probed) {
+            probed = ServiceState.TEMPORARILY_UNAVAILABLE;
+        }
+        final ServiceState previous;
+        service.lock.lock();
+        try {
+            previous = service.state;
+            service.state = probed;
+            service.consecutiveFailures = ServiceState.TEMPORARILY_UNAVAILABLE == probed
+                    ? service.consecutiveFailures + 1
+                    : 0;
+        } finally {
+            service.lock.unlock();
+        }
+        if (previous != probed) {
+            publish(new StateTransition(service, previous, probed));
+        }
+        return probed;
+    }
+
+    /**
+     * @param delegate to be called on a virtual thread
+     * @return the state reported by the delegate, null if it failed or timed out
+     */
+    private ServiceState call(final OptionalService delegate) {
+        final var call = new FutureTask<>(delegate::getServiceState);
+        Thread.ofVirtual().name("service-state-probe").start(call);
+        try {
+            return call.get(probeTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            LOGGER.warn(e.getCause(), WARN.SERVICE_PROBE_FAILED.format(delegate.getClass().getName()));
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            LOGGER.warn(e, WARN.SERVICE_PROBE_FAILED.format(delegate.getClass().getName()));
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            LOGGER.debug(e, "Interrupted while probing %s", delegate);
+        }
+        return null;
+    }
+
+    private void publish(final StateTransition transition) {
+        try {
+            publisher.offer(transition, null);
+        } catch (IllegalStateException e) {
+            // Closed concurrently by close(), a probe still running may not publish anymore
+            LOGGER.debug(e, "Publisher already closed, dropping %s", transition);
+        }
+    }
+
+    private void schedule(final ScheduledService service, final long delayNanos) {
+        if (!service.registered) {
+            return;
+        }
+        try {
+            service.next = scheduler.schedule(() -> probeExecutor.execute(() -> {
+                if (service.registered) {
+                    try {
+                        probe(service);
+                    } finally {
+                        schedule(service, nextDelayNanos(service.getConsecutiveFailures()));
+                    }
+                }
+            }), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug(e, "Scheduler already closed, not scheduling %s", service);
+        }
+    }
+}
@@ -24,6 +24,10 @@
  *       that may be conditionally available</li>
  *   <li>{@link de.cuioss.uimodel.service.ServiceState} - Enumeration defining possible
  *       service states</li>
+ *   <li>{@link de.cuioss.uimodel.service.CircuitBreakerService} - Decorator caching the
+ *       state of a service and protecting it by a circuit breaker</li>
+ *   <li>{@link de.cuioss.uimodel.service.ServiceStateScheduler} - Background refresh of
+ *       the states of many services</li>
  * </ul>
  *
  * <h2>Usage Pattern</h2>
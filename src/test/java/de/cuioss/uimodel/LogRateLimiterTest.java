@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel;
+
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.tools.logging.CuiLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static de.cuioss.uimodel.UiModelLogMessages.WARN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableTestLogger
+@DisplayName("LogRateLimiter Tests")
+class LogRateLimiterTest {
+
+    private static final CuiLogger LOGGER = new CuiLogger(LogRateLimiterTest.class);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LogRateLimiter limiter = LogRateLimiter.builder()
+            .defaultWindow(Duration.ofNanos(100))
+            .nanoClock(clock::get)
+            .build();
+
+    @Test
+    @DisplayName("should log the first occurrence per window and report suppressed ones")
+    void shouldDeduplicatePerWindow() {
+        // Act
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+        clock.set(50);
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+        clock.set(100);
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+
+        // Assert
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN, WARN.INVALID_RESULT_ACCESS.format("ERROR"));
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN,
+                WARN.INVALID_RESULT_ACCESS.format("ERROR") + " (suppressed 2 occurrences)");
+        assertEquals(0, limiter.getSuppressedCount(WARN.INVALID_RESULT_ACCESS, "ERROR"));
+    }
+
+    @Test
+    @DisplayName("should distinguish records and parameters")
+    void shouldDistinguishMessages() {
+        // Act
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "WARNING");
+        limiter.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, "ERROR");
+        limiter.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, null);
+        limiter.warn(LOGGER, WARN.MISSING_RESULT_DETAIL, null);
+
+        // Assert
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN, WARN.INVALID_RESULT_ACCESS.format("ERROR"));
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN, WARN.INVALID_RESULT_ACCESS.format("WARNING"));
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN, WARN.MISSING_RESULT_DETAIL.format("ERROR"));
+        assertEquals(1, limiter.getSuppressedCount(WARN.MISSING_RESULT_DETAIL, null));
+    }
+
+    @Test
+    @DisplayName("should be configurable per record")
+    void shouldConfigurePerRecord() {
+        // Arrange
+        limiter.configure(WARN.RESULT_CREATION_FAILED, Duration.ZERO);
+
+        // Act
+        limiter.warn(LOGGER, WARN.RESULT_CREATION_FAILED, "reason");
+        limiter.warn(LOGGER, WARN.RESULT_CREATION_FAILED, "reason");
+
+        // Assert
+        LogAsserts.assertLogMessagePresent(TestLogLevel.WARN, WARN.RESULT_CREATION_FAILED.format("reason"));
+        assertEquals(0, limiter.getSuppressedCount(WARN.RESULT_CREATION_FAILED, "reason"));
+        assertThrows(IllegalArgumentException.class,
+                () -> limiter.configure(WARN.RESULT_CREATION_FAILED, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    @DisplayName("should count concurrent occurrences exactly")
+    void shouldCountConcurrently() {
+        // Arrange
+        int occurrences = 10_000;
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < occurrences; i++) {
+                executor.execute(() -> limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR"));
+            }
+        }
+        clock.set(100);
+        limiter.warn(LOGGER, WARN.INVALID_RESULT_ACCESS, "ERROR");
+
+        // Assert
+        LogAsserts.assertSingleLogMessagePresent(TestLogLevel.WARN,
+                WARN.INVALID_RESULT_ACCESS.format("ERROR") + " (suppressed 9,999 occurrences)");
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Concurrent Unlockable Traced Dynamic Field Tests")
+class ConcurrentUnlockableTracedDynamicFieldTest {
+
+    private static final String DEFAULT_VALUE = "default";
+    private static final String SOME_VALUE = "value";
+
+    @Nested
+    @DisplayName("Value Management Tests")
+    class ValueManagementTests {
+
+        @Test
+        @DisplayName("Should track and reset value")
+        void shouldTrackAndReset() {
+            // Arrange
+            var underTest = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, true);
+
+            // Act
+            underTest.setValue(SOME_VALUE);
+
+            // Assert
+            assertEquals(SOME_VALUE, underTest.getValue());
+            assertTrue(underTest.isChanged());
+            assertEquals(DEFAULT_VALUE, underTest.resetValue());
+            assertFalse(underTest.isChanged());
+        }
+
+        @Test
+        @DisplayName("Should handle null default value")
+        void shouldHandleNullDefault() {
+            var underTest = new ConcurrentUnlockableTracedDynamicField<String>(null, true);
+            assertFalse(underTest.isAvailable());
+            assertFalse(underTest.isChanged());
+
+            underTest.setValue(SOME_VALUE);
+            assertTrue(underTest.isAvailable());
+            assertTrue(underTest.isChanged());
+        }
+
+        @Test
+        @DisplayName("Should only set value if expected value matches")
+        void shouldCompareAndSet() {
+            var underTest = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, true);
+
+            assertFalse(underTest.compareAndSetValue(SOME_VALUE, "other"));
+            assertEquals(DEFAULT_VALUE, underTest.getValue());
+            assertTrue(underTest.compareAndSetValue(DEFAULT_VALUE, SOME_VALUE));
+            assertEquals(SOME_VALUE, underTest.getValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Edit Mode Tests")
+    class EditModeTests {
+
+        @Test
+        @DisplayName("Should unlock and reset edit mode while keeping the value")
+        void shouldHandleEditMode() {
+            // Arrange
+            var underTest = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, false);
+
+            // Act
+            underTest.unlockEditMode();
+            underTest.setValue(SOME_VALUE);
+
+            // Assert
+            assertTrue(underTest.isEditable());
+            assertTrue(underTest.isEditModeEnforced());
+            assertEquals(SOME_VALUE, underTest.getValue());
+
+            underTest.resetEditMode();
+            assertFalse(underTest.isEditable());
+            assertFalse(underTest.isEditModeEnforced());
+            assertEquals(DEFAULT_VALUE, underTest.getValue());
+        }
+
+        @Test
+        @DisplayName("Should not enforce edit mode on editable field")
+        void shouldNotEnforceOnEditableField() {
+            var underTest = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, true);
+            underTest.unlockEditMode();
+            assertFalse(underTest.isEditModeEnforced());
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply concurrent conditional increments exactly once")
+    void shouldHandleConcurrentUpdates() throws InterruptedException {
+        // Arrange
+        var underTest = new ConcurrentUnlockableTracedDynamicField<>(0, true);
+        var successes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    Integer current;
+                    do {
+                        current = underTest.getValue();
+                    } while (!underTest.compareAndSetValue(current, current + 1));
+                    successes.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(4000, underTest.getValue());
+        assertEquals(4000, successes.get());
+    }
+
+    @Test
+    @DisplayName("Should implement equals based on current state")
+    void shouldImplementEquals() {
+        var first = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, true);
+        var second = new ConcurrentUnlockableTracedDynamicField<>(DEFAULT_VALUE, true);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.setValue(SOME_VALUE);
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.DynamicFieldType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Dynamic Field Descriptor Tests")
+class DynamicFieldDescriptorTest {
+
+    private static final DynamicFieldDescriptor DESCRIPTOR = DynamicFieldDescriptor.builder()
+            .identifier("userName")
+            .labelKey("user.name.label")
+            .advisoryKey("user.name.help")
+            .fieldType(DynamicFieldType.STRING)
+            .editable(true)
+            .build();
+
+    @Nested
+    @DisplayName("Field Creation Tests")
+    class FieldCreationTests {
+
+        @Test
+        @DisplayName("Should create field sharing the descriptor")
+        void shouldCreateFieldSharingDescriptor() {
+            // Act
+            var field = DESCRIPTOR.createField("John");
+
+            // Assert
+            assertEquals("userName", field.getIdentifier());
+            assertEquals("user.name.label", field.getLabelKey());
+            assertEquals("user.name.help", field.getAdvisoryKey());
+            assertEquals(DynamicFieldType.STRING, field.getFieldType());
+            assertTrue(field.isEditable());
+            assertEquals("John", field.getValue());
+            assertSame(DESCRIPTOR, ((DescribedDynamicField<String>) field).getDescriptor());
+        }
+
+        @Test
+        @DisplayName("Should delegate value handling")
+        void shouldDelegateValueHandling() {
+            // Arrange
+            var field = DESCRIPTOR.createField("John");
+
+            // Act
+            field.setValue("Jane");
+
+            // Assert
+            assertTrue(field.isChanged());
+            assertEquals("John", field.resetValue());
+            assertFalse(field.isChanged());
+        }
+
+        @Test
+        @DisplayName("Should reject values not matching the field type")
+        void shouldRejectMismatchingValue() {
+            assertThrows(IllegalArgumentException.class, () -> DESCRIPTOR.createField(42));
+        }
+
+        @Test
+        @DisplayName("Should create one field per value")
+        void shouldCreateFieldsInBulk() {
+            // Act
+            var fields = DESCRIPTOR.createFields(Arrays.asList("a", null, "c"));
+
+            // Assert
+            assertEquals(3, fields.size());
+            assertEquals("a", fields.get(0).getValue());
+            assertNull(fields.get(1).getValue());
+            assertEquals("c", fields.get(2).getValue());
+        }
+
+        @Test
+        @DisplayName("Should respect editable flag")
+        void shouldRespectEditableFlag() {
+            // Arrange
+            var readOnly = DynamicFieldDescriptor.builder().identifier("id").fieldType(DynamicFieldType.INTEGER)
+                    .build();
+            var field = readOnly.createField(1);
+
+            // Act & Assert
+            assertFalse(field.isEditable());
+            assertThrows(IllegalStateException.class, () -> field.setValue(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing mandatory attributes")
+    void shouldRejectMissingMandatoryAttributes() {
+        var builder = DynamicFieldDescriptor.builder().identifier("id");
+        assertThrows(NullPointerException.class, builder::build);
+    }
+}
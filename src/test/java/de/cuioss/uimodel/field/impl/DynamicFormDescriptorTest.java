@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import de.cuioss.uimodel.field.DynamicFieldType;
+import de.cuioss.uimodel.field.LabeledDynamicField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Dynamic Form Descriptor Tests")
+class DynamicFormDescriptorTest {
+
+    private static DynamicFieldDescriptor descriptor(String identifier, DynamicFieldType type) {
+        return DynamicFieldDescriptor.builder().identifier(identifier).labelKey(identifier + ".label")
+                .fieldType(type).editable(true).build();
+    }
+
+    @ParameterizedTest(name = "parallel={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should create fields in form order")
+    void shouldCreateFieldsInFormOrder(boolean parallel) {
+        // Arrange
+        final List<DynamicFieldDescriptor> descriptors = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            descriptors.add(descriptor("field" + i, DynamicFieldType.INTEGER));
+        }
+        var form = new DynamicFormDescriptor(descriptors);
+
+        // Act
+        var fields = form.createFields(Map.of("field7", 7, "field499", 499), parallel);
+
+        // Assert
+        assertEquals(500, fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            assertEquals("field" + i, fields.get(i).getIdentifier());
+        }
+        assertEquals(7, fields.get(7).getValue());
+        assertEquals(499, fields.get(499).getValue());
+        assertNull(fields.get(0).getValue());
+    }
+
+    @Test
+    @DisplayName("Should share descriptors between created forms")
+    void shouldShareDescriptors() {
+        // Arrange
+        var name = descriptor("name", DynamicFieldType.STRING);
+        var form = new DynamicFormDescriptor(List.of(name, descriptor("active", DynamicFieldType.BOOLEAN)));
+
+        // Act
+        List<LabeledDynamicField<?>> first = form.createFields(Map.of("name", "John"));
+        List<LabeledDynamicField<?>> second = form.createFields(Map.of("active", true));
+
+        // Assert
+        assertSame(((DescribedDynamicField<?>) first.get(0)).getDescriptor(),
+                ((DescribedDynamicField<?>) second.get(0)).getDescriptor());
+        assertEquals("John", first.get(0).getValue());
+        assertNull(second.get(0).getValue());
+        assertEquals(true, second.get(1).getValue());
+    }
+
+    @Test
+    @DisplayName("Should look up descriptors by identifier")
+    void shouldLookupDescriptors() {
+        var name = descriptor("name", DynamicFieldType.STRING);
+        var form = new DynamicFormDescriptor(List.of(name));
+
+        assertEquals(1, form.size());
+        assertTrue(form.getDescriptor("name").isPresent());
+        assertSame(name, form.getDescriptor("name").get());
+        assertFalse(form.getDescriptor("unknown").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the identifier index on deserialization")
+    void shouldRebuildIndexOnDeserialization() {
+        var form = new DynamicFormDescriptor(List.of(descriptor("name", DynamicFieldType.STRING)));
+
+        var restored = (DynamicFormDescriptor) SerializableContractImpl.serializeAndDeserialize(form);
+
+        assertEquals(form, restored);
+        assertTrue(restored.getDescriptor("name").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate identifiers")
+    void shouldRejectDuplicateIdentifiers() {
+        var descriptors = List.of(descriptor("name", DynamicFieldType.STRING),
+                descriptor("name", DynamicFieldType.LONG));
+        assertThrows(IllegalArgumentException.class, () -> new DynamicFormDescriptor(descriptors));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Field Change Publisher Tests")
+class FieldChangePublisherTest {
+
+    private QueueExecutor executor;
+    private FieldChangePublisher publisher;
+    private CollectingSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        executor = new QueueExecutor();
+        publisher = new FieldChangePublisher(executor, Duration.ZERO);
+        subscriber = new CollectingSubscriber();
+        publisher.subscribe(subscriber);
+        executor.runAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    @DisplayName("Should coalesce a burst of changes into one batch")
+    void shouldCoalesceBurst() {
+        // Arrange
+        var first = new ObservableTracedDynamicField<>(new StringEditableField("a", true), publisher);
+        var second = new ObservableTracedDynamicField<>(new IntegerEditableField(1, true), publisher);
+
+        // Act
+        first.setValue("b");
+        first.setValue("c");
+        second.setValue(2);
+        executor.runAll();
+
+        // Assert
+        assertEquals(1, subscriber.batches.size());
+        var batch = subscriber.batches.get(0);
+        assertEquals(2, batch.size());
+        var change = batch.stream().filter(c -> c.getField() == first).findFirst().orElseThrow();
+        assertEquals("a", change.getPreviousValue());
+        assertEquals("c", change.getCurrentValue());
+        assertTrue(change.isValueChanged());
+        assertFalse(change.isEditableChanged());
+    }
+
+    @Test
+    @DisplayName("Should not publish changes that cancel each other out")
+    void shouldDropNoOpBursts() {
+        // Arrange
+        var field = new ObservableTracedDynamicField<>(new BaseTracedDynamicField<>("a", true), publisher);
+
+        // Act
+        field.setValue("b");
+        field.resetValue();
+        executor.runAll();
+
+        // Assert
+        assertTrue(subscriber.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish editability changes")
+    void shouldPublishEditableChanges() {
+        // Arrange
+        var field = new ObservableUnlockableTracedDynamicField<>(new UnlockableTracedDynamicFieldImpl<>("a", false),
+                publisher);
+
+        // Act
+        field.unlockEditMode();
+        executor.runAll();
+
+        // Assert
+        assertEquals(1, subscriber.batches.size());
+        var change = subscriber.batches.get(0).get(0);
+        assertSame(field, change.getField());
+        assertTrue(change.isEditableChanged());
+        assertFalse(change.isValueChanged());
+        assertTrue(field.isEditModeEnforced());
+    }
+
+    @Test
+    @DisplayName("Should publish separate batches for separate bursts")
+    void shouldPublishSeparateBursts() {
+        var field = new ObservableTracedDynamicField<>(new StringEditableField("a", true), publisher);
+
+        field.setValue("b");
+        executor.runAll();
+        field.setValue("c");
+        executor.runAll();
+
+        assertEquals(2, subscriber.batches.size());
+        assertEquals("b", subscriber.batches.get(1).get(0).getPreviousValue());
+    }
+
+    @Test
+    @DisplayName("Should schedule again after a rejected flush")
+    void shouldRecoverFromRejectedFlush() {
+        // Arrange
+        var field = new ObservableTracedDynamicField<>(new StringEditableField("a", true), publisher);
+        executor.rejecting = true;
+
+        // Act
+        assertThrows(RejectedExecutionException.class, () -> field.setValue("b"));
+        executor.rejecting = false;
+        field.setValue("c");
+        executor.runAll();
+
+        // Assert
+        assertEquals(1, subscriber.batches.size());
+        assertEquals("b", subscriber.batches.get(0).get(0).getPreviousValue());
+        assertEquals("c", subscriber.batches.get(0).get(0).getCurrentValue());
+    }
+
+    @Test
+    @DisplayName("Should not record changes once closed")
+    void shouldIgnoreChangesAfterClose() {
+        var field = new ObservableTracedDynamicField<>(new StringEditableField("a", true), publisher);
+        publisher.close();
+        executor.runAll();
+
+        field.setValue("b");
+
+        assertTrue(executor.tasks.isEmpty());
+        assertTrue(subscriber.batches.isEmpty());
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("rejecting");
+            }
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<List<FieldChange>> {
+
+        private final List<List<FieldChange>> batches = new ArrayList<>();
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<FieldChange> item) {
+            batches.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // not expected
+        }
+
+        @Override
+        public void onComplete() {
+            // nothing to do
+        }
+    }
+}
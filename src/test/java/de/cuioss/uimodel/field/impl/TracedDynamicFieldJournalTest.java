@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.field.impl;
+
+import de.cuioss.uimodel.field.TracedDynamicField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Traced Dynamic Field Journal Tests")
+class TracedDynamicFieldJournalTest {
+
+    private TracedDynamicField<String> name;
+    private TracedDynamicField<Integer> age;
+    private List<TracedDynamicField<?>> fields;
+
+    @BeforeEach
+    void setUp() {
+        name = new BaseTracedDynamicField<>("initial", true);
+        age = new IntegerEditableField(1, true);
+        fields = List.of(name, age);
+    }
+
+    @Nested
+    @DisplayName("Undo and Redo Tests")
+    class UndoRedoTests {
+
+        @Test
+        @DisplayName("Should undo and redo multiple steps across fields")
+        void shouldUndoAndRedoMultipleSteps() {
+            // Arrange
+            var journal = new TracedDynamicFieldJournal(fields, 10);
+            journal.setValue(0, "first");
+            journal.setValue(1, 2);
+            journal.setValue(0, "second");
+
+            // Act & Assert
+            assertEquals(3, journal.getUndoCount());
+            assertTrue(journal.undo());
+            assertEquals("first", name.getValue());
+            assertTrue(journal.undo());
+            assertEquals(1, age.getValue());
+            assertTrue(journal.undo());
+            assertEquals("initial", name.getValue());
+            assertFalse(journal.undo());
+
+            assertEquals(3, journal.getRedoCount());
+            assertTrue(journal.redo());
+            assertEquals("first", name.getValue());
+            assertTrue(journal.redo());
+            assertEquals(2, age.getValue());
+            assertTrue(journal.redo());
+            assertEquals("second", name.getValue());
+            assertFalse(journal.redo());
+        }
+
+        @Test
+        @DisplayName("Should discard redo entries on new change")
+        void shouldDiscardRedoOnNewChange() {
+            // Arrange
+            var journal = new TracedDynamicFieldJournal(fields, 10);
+            journal.setValue(0, "first");
+            journal.setValue(0, "second");
+            journal.undo();
+
+            // Act
+            journal.setValue(1, 5);
+
+            // Assert
+            assertFalse(journal.canRedo());
+            assertEquals(2, journal.getUndoCount());
+            journal.undo();
+            journal.undo();
+            assertEquals("initial", name.getValue());
+            assertEquals(1, age.getValue());
+        }
+
+        @Test
+        @DisplayName("Should ignore changes not altering the value")
+        void shouldIgnoreNoOpChanges() {
+            var journal = new TracedDynamicFieldJournal(fields, 10);
+            journal.setValue(0, "initial");
+            assertFalse(journal.canUndo());
+        }
+
+        @Test
+        @DisplayName("Should record externally applied changes")
+        void shouldRecordExternalChanges() {
+            var journal = new TracedDynamicFieldJournal(fields, 10);
+            age.setValue(3);
+            journal.record(1, 1);
+
+            assertTrue(journal.undo());
+            assertEquals(1, age.getValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Ring Buffer Tests")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("Should drop oldest entries when capacity is exceeded")
+        void shouldDropOldestEntries() {
+            // Arrange
+            var journal = new TracedDynamicFieldJournal(fields, 3);
+
+            // Act
+            for (int i = 2; i <= 10; i++) {
+                journal.setValue(1, i);
+            }
+
+            // Assert
+            assertEquals(3, journal.getUndoCount());
+            while (journal.undo()) {
+                // undo everything possible
+            }
+            assertEquals(7, age.getValue());
+        }
+
+        @Test
+        @DisplayName("Should clear all entries")
+        void shouldClear() {
+            var journal = new TracedDynamicFieldJournal(fields, 3);
+            journal.setValue(0, "first");
+            journal.clear();
+
+            assertFalse(journal.canUndo());
+            assertFalse(journal.canRedo());
+            assertEquals("first", name.getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not record rejected changes")
+    void shouldNotRecordRejectedChanges() {
+        var journal = new TracedDynamicFieldJournal(List.of(new IntegerEditableField(1, false)), 3);
+        assertThrows(IllegalStateException.class, () -> journal.setValue(0, 2));
+        assertFalse(journal.canUndo());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid capacity")
+    void shouldRejectInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TracedDynamicFieldJournal(fields, 0));
+    }
+}
@@ -21,8 +21,21 @@ import de.cuioss.test.valueobjects.api.contracts.VerifyFactoryMethod;
 import de.cuioss.test.valueobjects.api.object.ObjectTestConfig;
 import de.cuioss.test.valueobjects.api.property.PropertyConfig;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Year;
 
 import static de.cuioss.tools.property.PropertyReadWrite.WRITE_ONLY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Tests ConditionalInteger Value Object")
 @PropertyConfig(name = "minBound", propertyClass = int.class, propertyReadWrite = WRITE_ONLY)
@@ -34,4 +47,58 @@ import static de.cuioss.tools.property.PropertyReadWrite.WRITE_ONLY;
 @ObjectTestConfig(equalsAndHashCodeOf = "content")
 class ConditionalIntegerTest extends ValueObjectTest<ConditionalInteger> {
 
+    @Test
+    @DisplayName("Should share instances for common values")
+    void shouldShareCachedInstances() {
+        // Arrange
+        final int currentYear = Year.now().getValue();
+
+        // Act & Assert
+        assertSame(ConditionalInteger.createDayInstance(15), ConditionalInteger.createDayInstance(15));
+        assertSame(ConditionalInteger.createMonthInstance(Integer.valueOf(12)),
+                ConditionalInteger.createMonthInstance(12));
+        assertSame(ConditionalInteger.createYearInstance(currentYear),
+                ConditionalInteger.createYearInstance(currentYear));
+        assertNotSame(ConditionalInteger.createYearInstance(4999), ConditionalInteger.createYearInstance(4999));
+    }
+
+    @Test
+    @DisplayName("Should keep the validation semantics for cached and uncached values")
+    void shouldKeepValidation() {
+        assertTrue(ConditionalInteger.createDayInstance(31).isValidAndInBound());
+        assertFalse(ConditionalInteger.createDayInstance(0).isValidAndInBound());
+        assertFalse(ConditionalInteger.createDayInstance(32).isValidAndInBound());
+        assertFalse(ConditionalInteger.createMonthInstance(13).isValidAndInBound());
+        assertFalse(ConditionalInteger.createMonthInstance(-1).isValidAndInBound());
+        assertTrue(ConditionalInteger.createYearInstance(1200).isValidAndInBound());
+        assertFalse(ConditionalInteger.createYearInstance(5000).isValidAndInBound());
+    }
+
+    @Test
+    @DisplayName("Should resolve deserialized instances to the cached ones")
+    void shouldResolveOnDeserialization() throws Exception {
+        // Arrange
+        final var day = ConditionalInteger.createDayInstance(3);
+        final var outOfBound = ConditionalInteger.createMonthInstance(20);
+        final var custom = new ConditionalInteger(3, 5, 10);
+
+        // Act & Assert
+        assertSame(day, roundTrip(day));
+        assertSame(ConditionalInteger.EMPTY_INSTANCE, roundTrip(ConditionalInteger.EMPTY_INSTANCE));
+        final var resolvedCustom = roundTrip(custom);
+        assertEquals(custom, resolvedCustom);
+        assertFalse(resolvedCustom.isValidAndInBound());
+        assertEquals(outOfBound, roundTrip(outOfBound));
+    }
+
+    private static ConditionalInteger roundTrip(final ConditionalInteger value)
+            throws IOException, ClassNotFoundException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (ConditionalInteger) in.readObject();
+        }
+    }
 }
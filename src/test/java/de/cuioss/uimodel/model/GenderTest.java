@@ -21,9 +21,13 @@ import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -31,6 +35,7 @@ import java.util.Set;
 import static de.cuioss.test.generator.Generators.letterStrings;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnableGeneratorController
 @DisplayName("Tests Gender Enumeration")
@@ -67,6 +72,52 @@ class GenderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Allocation-free Parsing Tests")
+    class AllocationFreeParsingTests {
+
+        @ParameterizedTest(name = "''{0}'' -> {1}")
+        @CsvSource({
+                "M, MALE",
+                "Male, MALE",
+                "FEMALE, FEMALE",
+                "oTHer, OTHER",
+                "Diverse, DIVERSE",
+                "X, UNDEFINED",
+                "UNDEFINED, UNDEFINED",
+                "males, UNKNOWN",
+                "mal, UNKNOWN",
+                "q, UNKNOWN"
+        })
+        @DisplayName("Should parse case-insensitive")
+        void shouldParseCaseInsensitive(String value, Gender expected) {
+            assertEquals(expected, Gender.fromString(value));
+            assertEquals(expected, Gender.fromCharSequence(new StringBuilder(value)));
+            final var bytes = (" " + value + " ").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, Gender.fromBytes(bytes, 1, value.length()));
+        }
+
+        @Test
+        @DisplayName("Should not depend on the default locale")
+        void shouldIgnoreDefaultLocale() {
+            final var original = Locale.getDefault();
+            try {
+                Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+                assertEquals(Gender.UNDEFINED, Gender.fromString("UNDEFINED"));
+            } finally {
+                Locale.setDefault(original);
+            }
+        }
+
+        @Test
+        @DisplayName("Should check byte range")
+        void shouldCheckByteRange() {
+            final var bytes = "male".getBytes(StandardCharsets.US_ASCII);
+            assertEquals(Gender.UNKNOWN, Gender.fromBytes(bytes, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> Gender.fromBytes(bytes, 2, 4));
+        }
+    }
+
     @Nested
     @DisplayName("Label Key Tests")
     class LabelKeyTests {
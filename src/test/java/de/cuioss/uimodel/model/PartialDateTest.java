@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests PartialDate")
+class PartialDateTest {
+
+    @Nested
+    @DisplayName("Packing Tests")
+    class PackingTests {
+
+        @Test
+        @DisplayName("Should pack and unpack components")
+        void shouldPackAndUnpack() {
+            // Arrange
+            final int packed = PartialDate.pack(2020, 2, 29);
+
+            // Act & Assert
+            assertEquals(2020, PartialDate.year(packed));
+            assertEquals(2, PartialDate.month(packed));
+            assertEquals(29, PartialDate.day(packed));
+            assertEquals(0, PartialDate.pack(0, 0, 0));
+            assertSame(PartialDate.UNKNOWN, PartialDate.ofPacked(0));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid components")
+        void shouldRejectInvalidComponents() {
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.of(5000, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.of(2020, 13, 1));
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.of(2021, 2, 29));
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.of(0, 4, 31));
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.of(-1, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.ofPacked(-1));
+        }
+
+        @Test
+        @DisplayName("Should order chronologically with unknown components first")
+        void shouldOrderChronologically() {
+            // Arrange
+            final List<PartialDate> dates = new ArrayList<>(List.of(PartialDate.of(2020, 5, 1),
+                    PartialDate.of(2020, 0, 0), PartialDate.of(1999, 12, 31), PartialDate.of(2020, 5, 0),
+                    PartialDate.UNKNOWN));
+
+            // Act
+            Collections.sort(dates);
+
+            // Assert
+            assertEquals(List.of(PartialDate.UNKNOWN, PartialDate.of(1999, 12, 31), PartialDate.of(2020, 0, 0),
+                    PartialDate.of(2020, 5, 0), PartialDate.of(2020, 5, 1)), dates);
+        }
+    }
+
+    @Nested
+    @DisplayName("ConditionalInteger Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should convert from and to ConditionalInteger")
+        void shouldConvert() {
+            // Arrange
+            final var date = PartialDate.of(ConditionalInteger.createYearInstance(1980),
+                    ConditionalInteger.EMPTY_INSTANCE, ConditionalInteger.createDayInstance(15));
+
+            // Act & Assert
+            assertEquals(PartialDate.of(1980, 0, 15), date);
+            assertEquals(ConditionalInteger.createYearInstance(1980), date.getYear());
+            assertSame(ConditionalInteger.EMPTY_INSTANCE, date.getMonth());
+            assertEquals(ConditionalInteger.createDayInstance(15), date.getDay());
+        }
+
+        @Test
+        @DisplayName("Should treat invalid ConditionalIntegers as unknown")
+        void shouldTreatInvalidAsUnknown() {
+            final var date = PartialDate.of(null, ConditionalInteger.createMonthInstance(13),
+                    new ConditionalInteger(40, 0, 100));
+
+            assertSame(PartialDate.UNKNOWN, date);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2020-??-15", "????-05-??", "2020-02-29", "????-??-??", "0001-01-01"})
+        @DisplayName("Should round trip the textual representation")
+        void shouldRoundTrip(final String text) {
+            assertEquals(text, PartialDate.parse(text).toString());
+        }
+
+        @Test
+        @DisplayName("Should provide known components")
+        void shouldProvideKnownComponents() {
+            // Act
+            final var date = PartialDate.parse("2020-??-15");
+
+            // Assert
+            assertTrue(date.isYearKnown());
+            assertFalse(date.isMonthKnown());
+            assertTrue(date.isDayKnown());
+            assertFalse(date.isComplete());
+            assertTrue(PartialDate.parse("2020-01-15").isComplete());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "2020-1-15", "2020/01/15", "2020-?1-15", "2020-00-15", "20a0-01-15",
+                "2020-02-30", "2020-01-15 "})
+        @DisplayName("Should reject malformed text")
+        void shouldRejectMalformed(final String text) {
+            assertThrows(IllegalArgumentException.class, () -> PartialDate.parse(text));
+        }
+
+        @Test
+        @DisplayName("Should parse in bulk")
+        void shouldParseAll() {
+            // Arrange
+            final var texts = List.of("2020-??-15", "????-??-??", new StringBuilder("1999-12-31"));
+            final var target = new int[4];
+
+            // Act
+            PartialDate.parseAll(texts, target);
+
+            // Assert
+            assertArrayEquals(new int[]{PartialDate.pack(2020, 0, 15), 0, PartialDate.pack(1999, 12, 31), 0}, target);
+            assertThrows(IndexOutOfBoundsException.class, () -> PartialDate.parseAll(texts, new int[2]));
+        }
+    }
+}
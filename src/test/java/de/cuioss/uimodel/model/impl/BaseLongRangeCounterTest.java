@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.test.valueobjects.ValueObjectTest;
+import de.cuioss.test.valueobjects.api.contracts.VerifyConstructor;
+import de.cuioss.test.valueobjects.api.contracts.VerifyCopyConstructor;
+import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
+import de.cuioss.uimodel.model.LongRangeCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests BaseLongRangeCounter Implementation")
+@PropertyReflectionConfig(of = {"count", "totalCount"})
+@VerifyConstructor(of = {"count", "totalCount"})
+@VerifyCopyConstructor(argumentType = LongRangeCounter.class)
+class BaseLongRangeCounterTest extends ValueObjectTest<BaseLongRangeCounter> {
+
+    @Nested
+    @DisplayName("Constructor and Copy Tests")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should handle values exceeding the Integer range")
+        void shouldHandleLargeValues() {
+            // Arrange
+            final long total = 5_000_000_000L;
+
+            // Act
+            final var counter = new BaseLongRangeCounter(10L, total);
+            final var copy = new BaseLongRangeCounter(counter);
+
+            // Assert
+            assertEquals(total, copy.getTotalCount());
+            assertEquals(counter, copy);
+            assertTrue(copy.isComplete());
+            assertFalse(copy.isTotalCountEstimated());
+        }
+
+        @Test
+        @DisplayName("Should widen a RangeCounter")
+        void shouldWidenRangeCounter() {
+            // Act
+            final var counter = new BaseLongRangeCounter(new BaseRangeCounter(null, 100));
+
+            // Assert
+            assertNull(counter.getCount());
+            assertEquals(100L, counter.getTotalCount());
+            assertTrue(counter.isSingleValueOnly());
+            assertTrue(new BaseLongRangeCounter(new BaseRangeCounter(null, null)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Estimation Tests")
+    class EstimationTests {
+
+        @Test
+        @DisplayName("Should flag estimated totals")
+        void shouldFlagEstimatedTotals() {
+            // Act
+            final var estimated = BaseLongRangeCounter.estimated(20L, 3_200_000_000L);
+
+            // Assert
+            assertTrue(estimated.isTotalCountEstimated());
+            assertTrue(estimated.isComplete());
+            assertTrue(new BaseLongRangeCounter(estimated).isTotalCountEstimated());
+            assertNotEquals(new BaseLongRangeCounter(20L, 3_200_000_000L), estimated);
+        }
+
+        @Test
+        @DisplayName("Should ignore the estimation flag without total count")
+        void shouldIgnoreFlagWithoutTotal() {
+            final var counter = new BaseLongRangeCounter(20L, null, true);
+
+            assertFalse(counter.isTotalCountEstimated());
+            assertEquals(new BaseLongRangeCounter(20L, null), counter);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.model.ErasableItem;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests ErasableItemList")
+class ErasableItemListTest {
+
+    @Nested
+    @DisplayName("State Tests")
+    class StateTests {
+
+        @Test
+        @DisplayName("Should take over and track the deletion state")
+        void shouldTrackState() {
+            // Arrange
+            final var deletedItem = new Item(1);
+            deletedItem.toggleDeleteFlag();
+            final var underTest = new ErasableItemList<>(List.of(new Item(0), deletedItem, new Item(2)));
+
+            // Act
+            underTest.toggleDeleteFlag(0);
+            underTest.setMarkedAsDeleted(1, false);
+            underTest.add(new Item(3));
+
+            // Assert
+            assertEquals(1, underTest.getDeletedCount());
+            assertEquals(3, underTest.getSurvivingCount());
+            assertTrue(underTest.isMarkedAsDeleted(0));
+            assertTrue(underTest.get(0).isMarkedAsDeleted());
+            assertFalse(deletedItem.isMarkedAsDeleted());
+            assertThrows(IndexOutOfBoundsException.class, () -> underTest.isMarkedAsDeleted(4));
+        }
+
+        @Test
+        @DisplayName("Should apply bulk operations")
+        void shouldApplyBulkOperations() {
+            // Arrange
+            final var underTest = createList(10);
+            underTest.toggleDeleteFlag(2);
+
+            // Act & Assert
+            underTest.markAllAsDeleted();
+            assertEquals(10, underTest.getDeletedCount());
+            assertTrue(underTest.getItems().stream().allMatch(Item::isMarkedAsDeleted));
+
+            underTest.setMarkedAsDeleted(0, 5, false);
+            assertEquals(5, underTest.getDeletedCount());
+
+            underTest.toggleAll();
+            assertEquals(5, underTest.getDeletedCount());
+            assertTrue(underTest.get(0).isMarkedAsDeleted());
+            assertFalse(underTest.get(9).isMarkedAsDeleted());
+
+            underTest.restoreAll();
+            assertEquals(0, underTest.getDeletedCount());
+            assertTrue(underTest.getItems().stream().noneMatch(Item::isMarkedAsDeleted));
+            assertThrows(IndexOutOfBoundsException.class, () -> underTest.setMarkedAsDeleted(5, 11, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("Partition Tests")
+    class PartitionTests {
+
+        @ParameterizedTest(name = "parallel={0}")
+        @ValueSource(booleans = {false, true})
+        @DisplayName("Should partition preserving order")
+        void shouldPartition(final boolean parallel) {
+            // Arrange
+            final var underTest = createList(10_000);
+            IntStream.range(0, 10_000).filter(i -> i % 3 == 0).forEach(underTest::toggleDeleteFlag);
+
+            // Act
+            final var partition = underTest.partition(parallel);
+
+            // Assert
+            assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(),
+                    partition.surviving().stream().map(Item::getId).toList());
+            assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 == 0).boxed().toList(),
+                    partition.deleted().stream().map(Item::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should compact")
+        void shouldCompact() {
+            // Arrange
+            final var underTest = createList(5);
+            underTest.toggleDeleteFlag(1);
+            underTest.toggleDeleteFlag(4);
+
+            // Act
+            final var removed = underTest.compact();
+
+            // Assert
+            assertEquals(List.of(1, 4), removed.stream().map(Item::getId).toList());
+            assertEquals(List.of(0, 2, 3), underTest.getItems().stream().map(Item::getId).toList());
+            assertEquals(0, underTest.getDeletedCount());
+            assertTrue(new ErasableItemList<Item>().partition(true).surviving().isEmpty());
+        }
+    }
+
+    private static ErasableItemList<Item> createList(final int size) {
+        final var list = new ErasableItemList<Item>();
+        IntStream.range(0, size).mapToObj(Item::new).forEach(list::add);
+        return list;
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    static class Item implements ErasableItem {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Getter
+        private final int id;
+
+        @Getter
+        private boolean markedAsDeleted;
+
+        @Override
+        public void toggleDeleteFlag() {
+            markedAsDeleted = !markedAsDeleted;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests IndexedMultiSelection")
+class IndexedMultiSelectionTest {
+
+    private final OptionCatalog<String> catalog = new OptionCatalog<>("options",
+            IntStream.range(0, 100).mapToObj(i -> "option" + i).toList());
+
+    private final IndexedMultiSelection<String> underTest = new IndexedMultiSelection<>(catalog);
+
+    @Nested
+    @DisplayName("Selection Tests")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Should select and deselect options")
+        void shouldSelectAndDeselect() {
+            // Act
+            underTest.select("option3");
+            underTest.select("option70");
+            underTest.setSelected(5, true);
+            underTest.deselect("option3");
+
+            // Assert
+            assertTrue(underTest.isSelected("option70"));
+            assertTrue(underTest.isSelected(5));
+            assertFalse(underTest.isSelected("option3"));
+            assertFalse(underTest.isSelected("unknown"));
+            assertEquals(List.of("option5", "option70"), underTest.getSelectedValue());
+            assertFalse(underTest.toggle("option5"));
+            assertEquals(1, underTest.getSelectedCount());
+        }
+
+        @Test
+        @DisplayName("Should select all and invert")
+        void shouldSelectAllAndInvert() {
+            // Act
+            underTest.select("option1");
+            underTest.invert();
+
+            // Assert
+            assertEquals(99, underTest.getSelectedCount());
+            assertFalse(underTest.isSelected(1));
+            underTest.selectAll();
+            assertEquals(100, underTest.getSelectedCount());
+            underTest.invert();
+            assertEquals(0, underTest.getSelectedCount());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown options and indexes")
+        void shouldRejectUnknown() {
+            assertThrows(IllegalArgumentException.class, () -> underTest.select("unknown"));
+            assertThrows(IndexOutOfBoundsException.class, () -> underTest.isSelected(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> underTest.setSelected(-1, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("State Tests")
+    class StateTests {
+
+        @Test
+        @DisplayName("Should restore from byte array")
+        void shouldRestore() {
+            // Arrange
+            underTest.select("option2");
+            underTest.select("option99");
+            final var state = underTest.toByteArray();
+            final var restored = new IndexedMultiSelection<>(catalog);
+            restored.select("option50");
+
+            // Act
+            restored.restore(state);
+
+            // Assert
+            assertEquals(underTest, restored);
+            assertEquals(List.of(2, 99), restored.selectedIndexes().boxed().toList());
+        }
+
+        @Test
+        @DisplayName("Should serialize the state together with the catalog")
+        void shouldSerializeWithCatalog() {
+            // Arrange
+            underTest.select("option7");
+
+            // Act
+            @SuppressWarnings("unchecked")
+            final var restored = (IndexedMultiSelection<String>) SerializableContractImpl
+                    .serializeAndDeserialize(underTest);
+
+            // Assert
+            assertEquals(underTest, restored);
+            assertEquals(catalog, restored.getCatalog());
+            assertEquals(7, restored.getCatalog().indexOf("option7"));
+            assertEquals("IndexedMultiSelection(catalog=options, selected={7})", restored.toString());
+        }
+
+        @Test
+        @DisplayName("Should keep sharing the catalog within a stream")
+        void shouldShareCatalog() {
+            // Arrange
+            final var other = new IndexedMultiSelection<>(catalog);
+            other.select("option1");
+
+            // Act
+            final var restored = (ArrayList<?>) SerializableContractImpl
+                    .serializeAndDeserialize(new ArrayList<>(List.of(underTest, other)));
+
+            // Assert
+            final var first = (IndexedMultiSelection<?>) restored.get(0);
+            final var second = (IndexedMultiSelection<?>) restored.get(1);
+            assertSame(first.getCatalog(), second.getCatalog());
+            assertEquals(other, second);
+        }
+
+        @Test
+        @DisplayName("Should reject state exceeding the catalog")
+        void shouldRejectForeignState() {
+            final var other = new IndexedMultiSelection<>(new OptionCatalog<>("single", List.of("a")));
+            underTest.select("option10");
+            final var state = underTest.toByteArray();
+
+            assertThrows(IllegalArgumentException.class, () -> other.restore(state));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests LiveRangeCounter")
+class LiveRangeCounterTest {
+
+    private final LiveRangeCounter underTest = new LiveRangeCounter();
+
+    @Test
+    @DisplayName("Should start empty")
+    void shouldStartEmpty() {
+        assertTrue(underTest.isEmpty());
+        assertEquals(PrimitiveRangeCounter.EMPTY, underTest.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should count concurrently and complete")
+    void shouldCountConcurrently() {
+        // Act
+        IntStream.range(0, 10_000).parallel().forEach(i -> underTest.increment());
+
+        // Assert
+        assertTrue(underTest.isSingleValueOnly());
+        assertEquals(10_000, underTest.getCount());
+        assertEquals(new PrimitiveRangeCounter(10_000, 10_000), underTest.complete());
+        assertTrue(underTest.isComplete());
+    }
+
+    @Test
+    @DisplayName("Should keep count and total count independent")
+    void shouldKeepValuesIndependent() {
+        // Act
+        underTest.setTotalCount(500);
+        underTest.add(20);
+
+        // Assert
+        assertEquals(new PrimitiveRangeCounter(20, 500), underTest.snapshot());
+        underTest.setTotalCount(-1);
+        assertFalse(underTest.isTotalCountAvailable());
+        assertTrue(underTest.isCountAvailable());
+        assertThrows(IllegalArgumentException.class, () -> underTest.add(-1));
+    }
+
+    @Test
+    @DisplayName("Should notify on crossing thresholds")
+    void shouldNotifyThresholds() {
+        // Arrange
+        final List<Integer> notified = new CopyOnWriteArrayList<>();
+        underTest.onThreshold(1000, notified::add);
+
+        // Act
+        for (int i = 0; i < 2500; i++) {
+            underTest.increment();
+        }
+        underTest.add(5000);
+
+        // Assert
+        assertEquals(List.of(1000, 2000, 7500), notified);
+        assertThrows(IllegalArgumentException.class, () -> underTest.onThreshold(0, notified::add));
+    }
+
+    @Test
+    @DisplayName("Should serialize as snapshot")
+    void shouldSerializeAsSnapshot() throws Exception {
+        // Arrange
+        underTest.add(3);
+        final var bytes = new ByteArrayOutputStream();
+
+        // Act
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(underTest);
+        }
+        final Object read;
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = in.readObject();
+        }
+
+        // Assert
+        assertEquals(new PrimitiveRangeCounter(3, -1), read);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Tests OptionCatalog")
+class OptionCatalogTest {
+
+    @Test
+    @DisplayName("Should index options in iteration order")
+    void shouldIndexOptions() {
+        // Arrange
+        final var options = new ArrayList<>(List.of("a", "b", "c"));
+
+        // Act
+        final var underTest = new OptionCatalog<>("letters", options);
+        options.clear();
+
+        // Assert
+        assertEquals(3, underTest.size());
+        assertEquals(1, underTest.indexOf("b"));
+        assertEquals("c", underTest.get(2));
+        assertEquals(-1, underTest.indexOf("d"));
+        assertEquals(-1, underTest.indexOf(null));
+        assertEquals(new OptionCatalog<>("letters", List.of("a", "b", "c")), underTest);
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate options")
+    void shouldRejectDuplicates() {
+        final var options = List.of("a", "b", "a");
+
+        assertThrows(IllegalArgumentException.class, () -> new OptionCatalog<>("duplicates", options));
+    }
+
+    @Test
+    @DisplayName("Should restore the index on deserialization")
+    void shouldRestoreIndex() {
+        // Arrange
+        final var underTest = new OptionCatalog<>("letters", List.of("a", "b"));
+
+        // Act
+        @SuppressWarnings("unchecked")
+        final var restored = (OptionCatalog<String>) SerializableContractImpl.serializeAndDeserialize(underTest);
+
+        // Assert
+        assertEquals(underTest, restored);
+        assertEquals(1, restored.indexOf("b"));
+    }
+
+    @Test
+    @DisplayName("Should allow updated options under the same id")
+    void shouldAllowUpdatedOptions() {
+        // Arrange
+        final var original = new OptionCatalog<>("codes", List.of("a", "b"));
+
+        // Act
+        final var updated = new OptionCatalog<>("codes", List.of("a", "b", "c"));
+
+        // Assert
+        assertEquals(2, original.size());
+        assertEquals(3, updated.size());
+        assertNotEquals(original, updated);
+    }
+}
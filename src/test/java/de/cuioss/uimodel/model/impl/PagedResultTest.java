@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.uimodel.result.ResultDetail;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests PagedResult")
+class PagedResultTest {
+
+    private final List<Integer> loadedPages = new ArrayList<>();
+
+    private ResultObject<List<String>> loadPage(final int index, final int size) {
+        loadedPages.add(index);
+        return new ResultObject<>(IntStream.range(index * size, (index + 1) * size).mapToObj(String::valueOf)
+                .toList(), ResultState.VALID);
+    }
+
+    @Nested
+    @DisplayName("Loading Tests")
+    class LoadingTests {
+
+        @Test
+        @DisplayName("Should load lazily and cache pages")
+        void shouldLoadLazily() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(new BaseRangeCounter(null, 95)).pageSize(10).build();
+
+            // Act
+            final var page = underTest.getPage(2);
+
+            // Assert
+            assertEquals("20", page.getResult().get(0));
+            assertSame(page.getResult(), underTest.getPage(2).getResult());
+            assertEquals(List.of(2), loadedPages);
+            assertEquals(10, underTest.getPageCount().getAsInt());
+            assertTrue(underTest.hasPage(9));
+            assertFalse(underTest.hasPage(10));
+            assertThrows(IllegalArgumentException.class, () -> underTest.getPage(-1));
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used pages")
+        void shouldEvictLeastRecentlyUsed() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(PrimitiveRangeCounter.EMPTY).maxCachedPages(2).build();
+
+            // Act
+            underTest.getPage(0);
+            underTest.getPage(1);
+            underTest.getPage(0);
+            underTest.getPage(2);
+            underTest.getPage(0);
+            underTest.getPage(1);
+
+            // Assert
+            assertEquals(List.of(0, 1, 2, 1), loadedPages);
+            assertEquals(2, underTest.getCachedPageCount());
+            underTest.invalidate();
+            assertEquals(0, underTest.getCachedPageCount());
+            assertFalse(underTest.getPageCount().isPresent());
+        }
+
+        @Test
+        @DisplayName("Should hand out a copy of the page to every caller")
+        void shouldHandOutCopies() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(PrimitiveRangeCounter.EMPTY).build();
+
+            // Act
+            final var first = underTest.getPage(0);
+            final var second = underTest.getPage(0);
+
+            // Assert
+            assertNotSame(first, second);
+            assertSame(first.getResult(), second.getResult());
+            assertEquals(List.of(0), loadedPages);
+        }
+
+        @Test
+        @DisplayName("Should not cache pages loaded before invalidation")
+        void shouldNotCacheStalePages() throws Exception {
+            // Arrange
+            final var loads = new AtomicInteger();
+            final var loading = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var underTest = PagedResult.<String>builder().pageLoader((index, size) -> {
+                if (loads.incrementAndGet() == 1) {
+                    loading.countDown();
+                    awaitQuietly(release);
+                    return new ResultObject<>(List.of("stale"), ResultState.VALID);
+                }
+                return new ResultObject<>(List.of("fresh"), ResultState.VALID);
+            }).rangeCounter(PrimitiveRangeCounter.EMPTY).build();
+            final var caller = Executors.newSingleThreadExecutor();
+
+            try {
+                final var stale = caller.submit(() -> underTest.getPage(0));
+                assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+                // Act
+                underTest.invalidate();
+                release.countDown();
+
+                // Assert
+                assertEquals(List.of("stale"), stale.get(5, TimeUnit.SECONDS).getResult());
+                assertEquals(0, underTest.getCachedPageCount());
+                assertEquals(List.of("fresh"), underTest.getPage(0).getResult());
+                assertEquals(2, loads.get());
+            } finally {
+                caller.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail on a recursive request for the loading page")
+        void shouldFailOnRecursiveLoad() {
+            // Arrange
+            final var self = new AtomicReference<PagedResult<String>>();
+            self.set(PagedResult.<String>builder().pageLoader((index, size) -> self.get().getPage(index))
+                    .rangeCounter(PrimitiveRangeCounter.EMPTY).build());
+            final var underTest = self.get();
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> underTest.getPage(0));
+            assertEquals(0, underTest.getCachedPageCount());
+        }
+
+        @Test
+        @DisplayName("Should not cache erroneous pages")
+        void shouldNotCacheErrors() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader((index, size) -> {
+                loadedPages.add(index);
+                return new ResultObject<>(List.of(), ResultState.ERROR,
+                        new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("failed")));
+            }).rangeCounter(PrimitiveRangeCounter.EMPTY).build();
+
+            // Act
+            final var page = underTest.getPage(0);
+            underTest.getPage(0);
+
+            // Assert
+            assertEquals(ResultState.ERROR, page.getState());
+            assertEquals(List.of(0, 0), loadedPages);
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefetching Tests")
+    class PrefetchingTests {
+
+        private final QueueExecutor executor = new QueueExecutor();
+
+        @Test
+        @DisplayName("Should prefetch the following page")
+        void shouldPrefetchNextPage() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(new BaseRangeCounter(null, 20)).pageSize(10).prefetchExecutor(executor).build();
+
+            // Act
+            underTest.getPage(0);
+            executor.runAll();
+            underTest.getPage(1);
+            executor.runAll();
+
+            // Assert
+            assertEquals(List.of(0, 1), loadedPages);
+            assertEquals(2, underTest.getCachedPageCount());
+        }
+
+        @Test
+        @DisplayName("Should share pending loads")
+        void shouldSharePendingLoads() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(PrimitiveRangeCounter.EMPTY).prefetchExecutor(executor).build();
+
+            // Act
+            final var first = underTest.prefetch(3);
+            final var second = underTest.prefetch(3);
+            executor.runAll();
+
+            // Assert
+            assertSame(first.join().getResult(), second.join().getResult());
+            assertEquals(List.of(3), loadedPages);
+            assertSame(first.join().getResult(), underTest.getPage(3).getResult());
+        }
+
+        @Test
+        @DisplayName("Should share a synchronous load between concurrent callers")
+        void shouldShareSynchronousLoads() throws Exception {
+            // Arrange
+            final var loads = new AtomicInteger();
+            final var loading = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var underTest = PagedResult.<String>builder().pageLoader((index, size) -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                awaitQuietly(release);
+                return new ResultObject<>(List.of("a"), ResultState.VALID);
+            }).rangeCounter(PrimitiveRangeCounter.EMPTY).build();
+            final var callers = Executors.newFixedThreadPool(10);
+
+            try {
+                // Act
+                final List<Future<ResultObject<List<String>>>> pages = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    pages.add(callers.submit(() -> underTest.getPage(0)));
+                }
+                assertTrue(loading.await(5, TimeUnit.SECONDS));
+                Thread.sleep(100);
+                release.countDown();
+
+                // Assert
+                final var first = pages.get(0).get(5, TimeUnit.SECONDS);
+                for (final var page : pages) {
+                    assertSame(first.getResult(), page.get(5, TimeUnit.SECONDS).getResult());
+                }
+                assertEquals(1, loads.get());
+            } finally {
+                callers.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should load again after a failed pending load")
+        void shouldRetryFailedLoad() {
+            // Arrange
+            final var underTest = PagedResult.<String>builder().pageLoader((index, size) -> {
+                if (loadedPages.isEmpty()) {
+                    loadedPages.add(index);
+                    throw new IllegalStateException("boom");
+                }
+                return loadPage(index, size);
+            }).rangeCounter(PrimitiveRangeCounter.EMPTY).prefetchExecutor(executor).build();
+            final var prefetched = underTest.prefetch(0);
+            executor.runAll();
+
+            // Act
+            final var page = underTest.getPage(0);
+
+            // Assert
+            assertTrue(prefetched.isCompletedExceptionally());
+            assertTrue(page.isValid());
+            assertEquals(List.of(0, 0), loadedPages);
+        }
+
+        @Test
+        @DisplayName("Should fail prefetching without executor")
+        void shouldFailWithoutExecutor() {
+            final var underTest = PagedResult.<String>builder().pageLoader(PagedResultTest.this::loadPage)
+                    .rangeCounter(PrimitiveRangeCounter.EMPTY).build();
+
+            assertTrue(underTest.prefetch(0).isCompletedExceptionally());
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(final Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
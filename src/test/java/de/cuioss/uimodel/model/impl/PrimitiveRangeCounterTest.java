@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.valueobjects.ValueObjectTest;
+import de.cuioss.test.valueobjects.api.contracts.VerifyConstructor;
+import de.cuioss.test.valueobjects.api.contracts.VerifyCopyConstructor;
+import de.cuioss.test.valueobjects.api.property.PropertyConfig;
+import de.cuioss.uimodel.model.RangeCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tests PrimitiveRangeCounter Implementation")
+@PropertyConfig(name = "count", propertyClass = int.class,
+        generator = PrimitiveRangeCounterTest.CountGenerator.class)
+@PropertyConfig(name = "totalCount", propertyClass = int.class,
+        generator = PrimitiveRangeCounterTest.CountGenerator.class)
+@VerifyConstructor(of = {"count", "totalCount"})
+@VerifyCopyConstructor(argumentType = RangeCounter.class)
+class PrimitiveRangeCounterTest extends ValueObjectTest<PrimitiveRangeCounter> {
+
+    /** Negative values are clamped, therefore only non-negative counts round trip. */
+    public static class CountGenerator implements TypedGenerator<Integer> {
+
+        private final TypedGenerator<Integer> delegate = Generators.integers(0, Integer.MAX_VALUE);
+
+        @Override
+        public Integer next() {
+            return delegate.next();
+        }
+
+        @Override
+        public Class<Integer> getType() {
+            return Integer.class;
+        }
+    }
+
+    @Nested
+    @DisplayName("State Tests")
+    class StateTests {
+
+        @Test
+        @DisplayName("Should behave like BaseRangeCounter")
+        void shouldBehaveLikeBaseRangeCounter() {
+            // Arrange
+            final var counters = List.of(new BaseRangeCounter(10, 100), new BaseRangeCounter(null, 5),
+                    new BaseRangeCounter(0, null), new BaseRangeCounter(null, null));
+
+            for (final var expected : counters) {
+                // Act
+                final var actual = PrimitiveRangeCounter.of(expected);
+
+                // Assert
+                assertEquals(expected.getCount(), actual.getCount());
+                assertEquals(expected.getTotalCount(), actual.getTotalCount());
+                assertEquals(expected.isCountAvailable(), actual.isCountAvailable());
+                assertEquals(expected.isTotalCountAvailable(), actual.isTotalCountAvailable());
+                assertEquals(expected.isSingleValueOnly(), actual.isSingleValueOnly());
+                assertEquals(expected.isEmpty(), actual.isEmpty());
+                assertEquals(expected.isComplete(), actual.isComplete());
+            }
+        }
+
+        @Test
+        @DisplayName("Should normalize negative values to not available")
+        void shouldNormalizeNegativeValues() {
+            // Act
+            final var counter = new PrimitiveRangeCounter(-5, 3);
+
+            // Assert
+            assertNull(counter.getCount());
+            assertEquals(PrimitiveRangeCounter.NOT_AVAILABLE, counter.getCountAsInt());
+            assertEquals(3, counter.getTotalCountAsInt());
+            assertEquals(new PrimitiveRangeCounter(PrimitiveRangeCounter.NOT_AVAILABLE, 3), counter);
+            assertSame(counter, PrimitiveRangeCounter.of(counter));
+        }
+    }
+
+    @Nested
+    @DisplayName("Merge Tests")
+    class MergeTests {
+
+        @Test
+        @DisplayName("Should sum up partial counters")
+        void shouldSumUp() {
+            // Arrange
+            final var shards = List.of(new PrimitiveRangeCounter(10, 100), new PrimitiveRangeCounter(5, 50),
+                    new PrimitiveRangeCounter(0, 7));
+
+            // Act
+            final var total = shards.parallelStream().reduce(PrimitiveRangeCounter.ZERO,
+                    PrimitiveRangeCounter::merge);
+
+            // Assert
+            assertEquals(new PrimitiveRangeCounter(15, 157), total);
+        }
+
+        @Test
+        @DisplayName("Should propagate missing values")
+        void shouldPropagateMissingValues() {
+            // Act
+            final var merged = new PrimitiveRangeCounter(10, 100).merge(new PrimitiveRangeCounter(5, -1));
+
+            // Assert
+            assertTrue(merged.isSingleValueOnly());
+            assertEquals(15, merged.getCountAsInt());
+            assertFalse(merged.isTotalCountAvailable());
+        }
+
+        @Test
+        @DisplayName("Should fail on overflow")
+        void shouldFailOnOverflow() {
+            final var counter = new PrimitiveRangeCounter(Integer.MAX_VALUE, 0);
+
+            assertThrows(ArithmeticException.class, () -> counter.merge(counter));
+        }
+    }
+}
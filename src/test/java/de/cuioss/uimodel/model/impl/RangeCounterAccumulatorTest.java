@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.model.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Tests RangeCounterAccumulator")
+class RangeCounterAccumulatorTest {
+
+    private final RangeCounterAccumulator underTest = new RangeCounterAccumulator();
+
+    @Test
+    @DisplayName("Should accumulate in parallel")
+    void shouldAccumulateInParallel() {
+        // Act
+        IntStream.range(0, 1000).parallel().forEach(i -> underTest.add(new PrimitiveRangeCounter(1, 2)));
+        underTest.addCount(5);
+
+        // Assert
+        assertEquals(new PrimitiveRangeCounter(1005, 2000), underTest.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should mark values as not available")
+    void shouldMarkNotAvailable() {
+        // Arrange
+        underTest.add(new BaseRangeCounter(3, null));
+        underTest.addTotalCount(10);
+
+        // Act
+        final var snapshot = underTest.snapshot();
+
+        // Assert
+        assertEquals(new PrimitiveRangeCounter(3, PrimitiveRangeCounter.NOT_AVAILABLE), snapshot);
+
+        underTest.reset();
+        assertEquals(PrimitiveRangeCounter.ZERO, underTest.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should reject negative deltas")
+    void shouldRejectInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.addCount(-1));
+    }
+
+    @Test
+    @DisplayName("Should saturate sums beyond the int range")
+    void shouldSaturate() {
+        // Arrange
+        underTest.addCount(Integer.MAX_VALUE);
+        underTest.addCount(Integer.MAX_VALUE);
+        underTest.addTotalCount(Integer.MAX_VALUE + 1L);
+
+        // Act
+        final var snapshot = underTest.snapshot();
+
+        // Assert
+        assertEquals(new PrimitiveRangeCounter(Integer.MAX_VALUE, Integer.MAX_VALUE), snapshot);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableTestLogger
+@DisplayName("BuilderDiagnostics Tests")
+class BuilderDiagnosticsTest {
+
+    private static final ResultDetail DETAIL = new ResultDetail(
+            new de.cuioss.uimodel.nameprovider.DisplayName("detail"));
+
+    @BeforeEach
+    void resetCount() {
+        BuilderDiagnostics.resetReplacedDetailCount();
+    }
+
+    @Test
+    @DisplayName("should neither count nor log by default")
+    void shouldBeOffByDefault() {
+        // Arrange
+        var builder = ResultObject.<String>builder().validDefaultResult("").state(ResultState.ERROR);
+
+        // Act
+        builder.resultDetail(DETAIL).resultDetail(DETAIL);
+        ResultOptional.<String>optionalBuilder().state(ResultState.ERROR).resultDetail(DETAIL).resultDetail(DETAIL);
+
+        // Assert
+        assertEquals(0, BuilderDiagnostics.getReplacedDetailCount());
+        LogAsserts.assertNoLogMessagePresent(TestLogLevel.ERROR, "Already failed");
+    }
+
+    @Test
+    @DisplayName("should count replaced details without logging")
+    void shouldCount() {
+        // Arrange
+        var builder = ResultOptional.<String>optionalBuilder().state(ResultState.ERROR)
+                .diagnostics(BuilderDiagnostics.COUNTING);
+
+        // Act
+        builder.resultDetail(DETAIL).resultDetail(DETAIL).resultDetail(DETAIL);
+
+        // Assert
+        assertEquals(2, BuilderDiagnostics.getReplacedDetailCount());
+        LogAsserts.assertNoLogMessagePresent(TestLogLevel.ERROR, "Already failed");
+    }
+
+    @Test
+    @DisplayName("should count and log replaced details")
+    void shouldLog() {
+        // Arrange
+        var builder = ResultOptional.<String>optionalBuilder().state(ResultState.ERROR)
+                .diagnostics(BuilderDiagnostics.LOGGING);
+
+        // Act
+        builder.resultDetail(DETAIL).resultDetail(DETAIL);
+
+        // Assert
+        assertEquals(1, BuilderDiagnostics.getReplacedDetailCount());
+        LogAsserts.assertLogMessagePresentContaining(TestLogLevel.ERROR, "Already failed");
+    }
+
+    @Test
+    @DisplayName("should reject null diagnostics")
+    void shouldRejectNull() {
+        // Arrange
+        var builder = ResultObject.<String>builder();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> builder.diagnostics(null));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ErrorCodeDispatcher Tests")
+class ErrorCodeDispatcherTest {
+
+    private static ResultObject<String> error(final Enum<?> code) {
+        return new ResultObject<>("", ResultState.ERROR,
+                new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test")), code);
+    }
+
+    @Test
+    @DisplayName("should route results to the handlers of their codes")
+    void shouldDispatch() {
+        // Arrange
+        var dispatcher = ErrorCodeDispatcher.<String, String>builder()
+                .on(ResultErrorCodes.NOT_FOUND, result -> "notFound")
+                .on(ErrorCodeMatcher.of(ResultErrorCodes.NOT_AUTHENTICATED, ExampleErrorCodes.TEST),
+                        result -> "login")
+                .otherwise(result -> "error")
+                .build();
+
+        // Act & Assert
+        assertEquals("notFound", dispatcher.dispatch(error(ResultErrorCodes.NOT_FOUND)));
+        assertEquals("login", dispatcher.dispatch(error(ResultErrorCodes.NOT_AUTHENTICATED)));
+        assertEquals("login", dispatcher.dispatch(error(ExampleErrorCodes.TEST)));
+        assertEquals("error", dispatcher.dispatch(error(ExampleErrorCodes.TEST2)));
+        assertEquals("error", dispatcher.dispatch(error(null)));
+        assertTrue(dispatcher.handles(ResultErrorCodes.NOT_FOUND));
+        assertFalse(dispatcher.handles(ResultErrorCodes.BAD_REQUEST));
+        assertFalse(dispatcher.handles(null));
+    }
+
+    @Test
+    @DisplayName("should mark the error code as handled")
+    void shouldMarkAsHandled() {
+        // Arrange
+        var dispatcher = ErrorCodeDispatcher.<String, String>builder()
+                .on(ResultErrorCodes.NOT_FOUND, ResultObject::getResult)
+                .build();
+
+        // Act & Assert
+        assertEquals("", dispatcher.dispatch(error(ResultErrorCodes.NOT_FOUND)));
+        assertNull(dispatcher.dispatch(error(ResultErrorCodes.BAD_REQUEST)));
+    }
+
+    @Test
+    @DisplayName("should not be affected by later changes of the builder")
+    void shouldBeImmutable() {
+        // Arrange
+        var builder = ErrorCodeDispatcher.<String, String>builder()
+                .on(ResultErrorCodes.NOT_FOUND, result -> "first");
+        var dispatcher = builder.build();
+
+        // Act
+        builder.on(ResultErrorCodes.NOT_FOUND, result -> "second").on(ResultErrorCodes.BAD_REQUEST, result -> "");
+
+        // Assert
+        assertEquals("first", dispatcher.dispatch(error(ResultErrorCodes.NOT_FOUND)));
+        assertEquals("second", builder.build().dispatch(error(ResultErrorCodes.NOT_FOUND)));
+        assertFalse(dispatcher.handles(ResultErrorCodes.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ErrorCodeMatcher Tests")
+class ErrorCodeMatcherTest {
+
+    private static final ErrorCodeMatcher MIXED = ErrorCodeMatcher.of(ResultErrorCodes.NOT_FOUND,
+            ExampleErrorCodes.TEST, ResultErrorCodes.NOT_FOUND);
+
+    @Test
+    @DisplayName("should match codes of mixed enum types")
+    void shouldMatchMixedTypes() {
+        // Act & Assert
+        assertTrue(MIXED.matches(ResultErrorCodes.NOT_FOUND));
+        assertTrue(MIXED.matches(ExampleErrorCodes.TEST));
+        assertFalse(MIXED.matches(ResultErrorCodes.BAD_REQUEST));
+        assertFalse(MIXED.matches(ExampleErrorCodes.TEST2));
+        assertFalse(MIXED.matches(OtherCodes.TEST));
+        assertFalse(MIXED.matches((Enum<?>) null));
+        assertEquals(List.of(ExampleErrorCodes.TEST, ResultErrorCodes.NOT_FOUND), MIXED.getCodes());
+    }
+
+    @Test
+    @DisplayName("should match results without marking the error code as handled")
+    void shouldMatchResults() {
+        // Arrange
+        var result = new ResultObject<>("Test", ResultState.ERROR,
+                new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test")), ExampleErrorCodes.TEST);
+
+        // Act & Assert
+        assertTrue(MIXED.matches(result));
+        assertTrue(result.containsErrorCode(MIXED));
+        assertFalse(ErrorCodeMatcher.NONE.matches(result));
+        assertFalse(MIXED.matches((ResultObject<?>) null));
+        assertFalse(MIXED.matches(new ResultObject<>("Test", ResultState.VALID)));
+        assertThrows(UnsupportedOperationException.class, result::getResult);
+    }
+
+    @Test
+    @DisplayName("should combine and compare matchers")
+    void shouldCombine() {
+        // Arrange
+        var retryable = ErrorCodeMatcher.of(ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+
+        // Act
+        var combined = retryable.or(MIXED);
+
+        // Assert
+        assertTrue(combined.matches(ResultErrorCodes.SERVICE_NOT_AVAILABLE));
+        assertTrue(combined.matches(ExampleErrorCodes.TEST));
+        assertEquals(combined, retryable.or(MIXED));
+        assertSame(ErrorCodeMatcher.NONE, ErrorCodeMatcher.of());
+        assertThrows(NullPointerException.class, () -> ErrorCodeMatcher.of((Enum<?>) null));
+        assertEquals(combined, SerializableContractImpl.serializeAndDeserialize(combined));
+    }
+
+    @Test
+    @DisplayName("should compare matchers independent of the order of their codes")
+    void shouldCompareIndependentOfOrder() {
+        // Arrange
+        var first = ErrorCodeMatcher.of(ResultErrorCodes.NOT_FOUND, ExampleErrorCodes.TEST, ResultErrorCodes.CONFLICT);
+        var second = ErrorCodeMatcher.of(ResultErrorCodes.CONFLICT, ResultErrorCodes.NOT_FOUND, ExampleErrorCodes.TEST);
+
+        // Act & Assert
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first, MIXED.or(ErrorCodeMatcher.of(ResultErrorCodes.CONFLICT)));
+    }
+
+    @Test
+    @DisplayName("should handle enums with more than 64 constants")
+    void shouldHandleLargeEnums() {
+        // Arrange
+        var matcher = ErrorCodeMatcher.of(LargeEnum.C0, LargeEnum.C70);
+
+        // Act & Assert
+        assertTrue(matcher.matches(LargeEnum.C0));
+        assertTrue(matcher.matches(LargeEnum.C70));
+        assertFalse(matcher.matches(LargeEnum.C6));
+        assertFalse(matcher.matches(LargeEnum.C64));
+    }
+
+    enum OtherCodes {
+        TEST
+    }
+
+    enum LargeEnum {
+        C0, C1, C2, C3, C4, C5, C6, C7, C8, C9, C10, C11, C12, C13, C14, C15, C16, C17, C18, C19,
+        C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31, C32, C33, C34, C35, C36, C37, C38,
+        C39, C40, C41, C42, C43, C44, C45, C46, C47, C48, C49, C50, C51, C52, C53, C54, C55, C56, C57,
+        C58, C59, C60, C61, C62, C63, C64, C65, C66, C67, C68, C69, C70
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ExpectedResultFailure Tests")
+class ExpectedResultFailureTest {
+
+    @Test
+    @DisplayName("should not capture a stack trace")
+    void shouldBeStackless() {
+        // Arrange & Act
+        var failure = new ExpectedResultFailure("expected");
+
+        // Assert
+        assertEquals(0, failure.getStackTrace().length);
+        assertEquals("expected", failure.getMessage());
+        assertNull(failure.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("should preallocate one instance per error code")
+    void shouldPreallocate() {
+        // Arrange & Act
+        var failure = ExpectedResultFailure.of(ResultErrorCodes.NOT_FOUND);
+
+        // Assert
+        assertSame(failure, ExpectedResultFailure.of(ResultErrorCodes.NOT_FOUND));
+        assertSame(ResultErrorCodes.NOT_FOUND, failure.getErrorCode());
+        assertEquals("ResultErrorCodes.NOT_FOUND", failure.getMessage());
+        assertThrows(NullPointerException.class, () -> ExpectedResultFailure.of(null));
+    }
+
+    @Test
+    @DisplayName("should stay stackless when shared")
+    void shouldIgnoreSuppressed() {
+        // Arrange
+        var failure = ExpectedResultFailure.of(ResultErrorCodes.BAD_REQUEST);
+
+        // Act
+        failure.addSuppressed(new IllegalStateException());
+        failure.fillInStackTrace();
+
+        // Assert
+        assertEquals(0, failure.getSuppressed().length);
+        assertEquals(0, failure.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("should create expected result details")
+    void shouldCreateExpectedDetail() {
+        // Arrange & Act
+        var detail = ResultDetail.expected(new de.cuioss.uimodel.nameprovider.DisplayName("not found"),
+                ResultErrorCodes.NOT_FOUND);
+
+        // Assert
+        assertSame(ExpectedResultFailure.of(ResultErrorCodes.NOT_FOUND), detail.getCause().orElse(null));
+        assertEquals(detail, SerializableContractImpl.serializeAndDeserialize(detail));
+    }
+}
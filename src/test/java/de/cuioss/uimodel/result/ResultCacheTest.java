@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResultCache Tests")
+class ResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ResultCache<String, ResultObject<String>> cache(final ResultState state, final Enum<?> code) {
+        return ResultCache.<String, ResultObject<String>>builder()
+                .copier(ResultObject::copy)
+                .loader(key -> {
+                    calls.incrementAndGet();
+                    return new ResultObject<>(key, state,
+                            ResultState.VALID == state ? null
+                                    : new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName(key)),
+                            code);
+                })
+                .validTimeToLive(Duration.ofNanos(100))
+                .degradedTimeToLive(Duration.ofNanos(50))
+                .notFoundTimeToLive(Duration.ofNanos(10))
+                .maximumSize(2)
+                .nanoClock(clock::get)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should cache valid results for their time to live")
+    void shouldCacheValidResults() {
+        // Arrange
+        var cache = cache(ResultState.VALID, null);
+
+        // Act
+        var first = cache.get("a");
+        clock.set(99);
+        var second = cache.get("a");
+        clock.set(100);
+        cache.get("a");
+
+        // Assert
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("should apply time to live depending on the outcome")
+    void shouldDeriveTimeToLive() {
+        // Arrange
+        var cache = cache(ResultState.VALID, null);
+        var detail = new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test"));
+
+        // Act & Assert
+        assertEquals(100, cache.timeToLiveNanos(new ResultObject<>("", ResultState.VALID)));
+        assertEquals(50, cache.timeToLiveNanos(new ResultObject<>("", ResultState.INFO, detail)));
+        assertEquals(50, cache.timeToLiveNanos(new ResultObject<>("", ResultState.WARNING, detail)));
+        assertEquals(10, cache.timeToLiveNanos(
+                new ResultObject<>("", ResultState.ERROR, detail, ResultErrorCodes.NOT_FOUND)));
+        assertTrue(cache.timeToLiveNanos(new ResultObject<>("", ResultState.ERROR, detail)) < 0);
+        assertTrue(cache.timeToLiveNanos(
+                new ResultObject<>("", ResultState.WARNING, detail, ResultErrorCodes.SERVICE_NOT_AVAILABLE)) < 0);
+    }
+
+    @Test
+    @DisplayName("should hand out unhandled copies of negatively cached results")
+    void shouldCacheNotFound() {
+        // Arrange
+        var cache = cache(ResultState.ERROR, ResultErrorCodes.NOT_FOUND);
+        var first = cache.get("a");
+        first.getErrorCode();
+
+        // Act
+        var second = cache.get("a");
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals("a", first.getResult());
+        assertThrows(UnsupportedOperationException.class, second::getResult);
+    }
+
+    @Test
+    @DisplayName("should never cache unavailable services")
+    void shouldNotCacheUnavailable() {
+        // Arrange
+        var cache = cache(ResultState.ERROR, ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+
+        // Act
+        cache.get("a");
+        cache.get("a");
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("should evict least recently used results")
+    void shouldEvict() {
+        // Arrange
+        var cache = cache(ResultState.VALID, null);
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+
+        // Act
+        cache.get("c");
+        cache.get("a");
+        cache.get("b");
+
+        // Assert
+        assertEquals(4, calls.get());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("should invalidate results")
+    void shouldInvalidate() {
+        // Arrange
+        var cache = cache(ResultState.VALID, null);
+        cache.get("a");
+        cache.get("b");
+
+        // Act
+        cache.invalidate("a");
+        cache.get("b");
+        cache.invalidateAll();
+
+        // Assert
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("should cache optional results")
+    void shouldCacheOptionalResults() {
+        // Arrange
+        var cache = ResultCache.<String, ResultOptional<String>>builder()
+                .loader(key -> new ResultOptional<>(key, ResultState.VALID))
+                .copier(ResultOptional::copy)
+                .build();
+        cache.get("a");
+
+        // Act
+        ResultOptional<String> hit = cache.get("a");
+
+        // Assert
+        assertEquals("a", hit.getResult().orElse(null));
+        assertEquals(1, cache.getHitCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> ResultCache.<String, ResultObject<String>>builder().loader(key -> null)
+                        .copier(ResultObject::copy).maximumSize(0).build());
+    }
+
+    @Test
+    @DisplayName("should copy subclasses via the configured copier")
+    void shouldCopySubclasses() {
+        // Arrange
+        var cache = ResultCache.<String, AuditedResult>builder()
+                .loader(AuditedResult::new)
+                .copier(result -> new AuditedResult(result.getResult()))
+                .build();
+        var loaded = cache.get("a");
+
+        // Act
+        AuditedResult hit = cache.get("a");
+
+        // Assert
+        assertNotSame(loaded, hit);
+        assertEquals("a", hit.getResult());
+    }
+
+    static class AuditedResult extends ResultObject<String> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        AuditedResult(final String result) {
+            super(result, ResultState.VALID);
+        }
+    }
+}
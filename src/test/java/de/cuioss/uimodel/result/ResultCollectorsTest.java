@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResultCollectors Tests")
+class ResultCollectorsTest {
+
+    private static ResultObject<Integer> result(final int value) {
+        return switch (value % 4) {
+            case 0 -> new ResultObject<>(value, ResultState.VALID);
+            case 1 -> new ResultObject<>(value, ResultState.WARNING, detail("warning " + value));
+            case 2 -> new ResultObject<>(value, ResultState.ERROR, detail("error " + value),
+                    value % 8 == 2 ? ResultErrorCodes.NOT_FOUND : ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+            default -> new ResultObject<>(value, ResultState.ERROR, detail("error " + value));
+        };
+    }
+
+    private static ResultDetail detail(final String message) {
+        return new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName(message));
+    }
+
+    private static List<ResultObject<Integer>> results(final int count) {
+        return IntStream.range(0, count).mapToObj(ResultCollectorsTest::result).toList();
+    }
+
+    @Test
+    @DisplayName("should partition by state in one pass")
+    void shouldPartitionByState() {
+        // Arrange
+        var results = results(16);
+
+        // Act
+        var partitions = results.parallelStream().collect(ResultCollectors.partitioningByState());
+        var counts = results.stream().collect(ResultCollectors.partitioningByState(Collectors.counting()));
+
+        // Assert
+        assertEquals(4, partitions.get(ResultState.VALID).size());
+        assertEquals(4, partitions.get(ResultState.WARNING).size());
+        assertEquals(8, partitions.get(ResultState.ERROR).size());
+        assertTrue(partitions.get(ResultState.INFO).isEmpty());
+        assertEquals(results.stream().filter(r -> ResultState.VALID == r.getState()).toList(),
+                partitions.get(ResultState.VALID));
+        assertEquals(0L, counts.get(ResultState.INFO));
+        assertEquals(8L, counts.get(ResultState.ERROR));
+        // equality includes the handled flags, fresh results are unhandled
+        assertEquals(results(16).stream().filter(r -> ResultState.ERROR == r.getState()).toList(),
+                partitions.get(ResultState.ERROR));
+    }
+
+    @Test
+    @DisplayName("should group by error code")
+    void shouldGroupByErrorCode() {
+        // Arrange
+        var results = results(16);
+
+        // Act
+        var groups = results.parallelStream().collect(ResultCollectors.groupingByErrorCode());
+
+        // Assert
+        assertEquals(List.of(ResultErrorCodes.NOT_FOUND, ResultErrorCodes.SERVICE_NOT_AVAILABLE),
+                new ArrayList<>(groups.keySet()));
+        assertEquals(2, groups.get(ResultErrorCodes.NOT_FOUND).size());
+        assertEquals(2, groups.get(ResultErrorCodes.SERVICE_NOT_AVAILABLE).size());
+    }
+
+    @Test
+    @DisplayName("should summarize sequential and parallel streams alike")
+    void shouldSummarize() {
+        // Arrange
+        var sequentialInput = results(1000);
+        var parallelInput = results(1000);
+
+        // Act
+        var sequential = sequentialInput.stream().collect(ResultCollectors.summarizing());
+        var parallel = parallelInput.parallelStream().collect(ResultCollectors.summarizing());
+
+        // Assert
+        assertEquals(sequential, parallel);
+        assertEquals(250, sequential.validResults().size());
+        assertEquals(0, sequential.validResults().get(0));
+        assertEquals(996, sequential.validResults().get(249));
+        assertEquals(250L, sequential.stateCounts().get(ResultState.WARNING));
+        assertEquals(0L, sequential.stateCounts().get(ResultState.INFO));
+        assertEquals(125, sequential.detailsByErrorCode().get(ResultErrorCodes.NOT_FOUND).size());
+        assertEquals(detail("error 2"), sequential.detailsByErrorCode().get(ResultErrorCodes.NOT_FOUND).get(0));
+        assertEquals(500, sequential.uncodedDetails().size());
+        assertEquals(ResultState.ERROR, sequential.worstState());
+        assertEquals(3, parallelInput.get(3).getResult());
+    }
+
+    @Test
+    @DisplayName("should summarize empty and optional streams")
+    void shouldSummarizeEmpty() {
+        // Act
+        var empty = Stream.<ResultObject<String>>empty().collect(ResultCollectors.summarizing());
+        var optionals = Stream.of(new ResultOptional<>("a", ResultState.VALID),
+                new ResultOptional<>("b", ResultState.INFO, detail("info"), null))
+                .collect(ResultCollectors.summarizing());
+
+        // Assert
+        assertEquals(ResultState.VALID, empty.worstState());
+        assertTrue(empty.validResults().isEmpty());
+        assertEquals(ResultState.INFO, optionals.worstState());
+        assertEquals("a", optionals.validResults().get(0).orElse(null));
+        assertEquals(List.of(detail("info")), optionals.uncodedDetails());
+    }
+}
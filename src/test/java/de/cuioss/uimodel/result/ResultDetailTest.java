@@ -28,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @PropertyReflectionConfig(skip = true)
@@ -96,6 +98,18 @@ class ResultDetailTest extends ValueObjectTest<ResultDetail> {
             assertDoesNotThrow(() -> new ResultDetail(dnProvider),
                     "Constructor call with message failed");
         }
+
+        @Test
+        @DisplayName("should provide cause without Optional")
+        void shouldProvideCauseOrNull() {
+            // Arrange
+            final IDisplayNameProvider<String> dnProvider = new de.cuioss.uimodel.nameprovider.DisplayName("test");
+            final Throwable throwable = new RuntimeException("test");
+
+            // Act & Assert
+            assertSame(throwable, new ResultDetail(dnProvider, throwable).causeOrNull());
+            assertNull(new ResultDetail(dnProvider).causeOrNull());
+        }
     }
 
     @Nested
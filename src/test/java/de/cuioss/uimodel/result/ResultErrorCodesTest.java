@@ -20,8 +20,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.Serializable;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -40,8 +42,18 @@ class ResultErrorCodesTest {
                 "403, NOT_AUTHORIZED",
                 "404, NOT_FOUND",
                 "503, SERVICE_NOT_AVAILABLE",
+                "408, REQUEST_TIMEOUT",
+                "409, CONFLICT",
+                "412, PRECONDITION_FAILED",
+                "429, TOO_MANY_REQUESTS",
+                "501, NOT_IMPLEMENTED",
+                "502, BAD_GATEWAY",
+                "504, GATEWAY_TIMEOUT",
                 "500, RUNTIME_ERROR",
-                "0, RUNTIME_ERROR"
+                "418, RUNTIME_ERROR",
+                "0, RUNTIME_ERROR",
+                "-1, RUNTIME_ERROR",
+                "600, RUNTIME_ERROR"
         })
         void parseHttpCode(int httpCode, ResultErrorCodes expected) {
             // Act
@@ -50,6 +62,33 @@ class ResultErrorCodesTest {
             // Assert
             assertEquals(expected, actual);
         }
+
+        @ParameterizedTest(name = "{0} should map back to itself")
+        @EnumSource(ResultErrorCodes.class)
+        void shouldMapBackToHttpCode(ResultErrorCodes code) {
+            // Act
+            int httpCode = ResultErrorCodes.toHttpCode(code);
+
+            // Assert
+            assertEquals(code, ResultErrorCodes.parseHttpCode(httpCode));
+        }
+
+        @Test
+        @DisplayName("should keep the ordinals of the original codes")
+        void shouldKeepOrdinals() {
+            // Act & Assert
+            assertEquals(List.of(ResultErrorCodes.NOT_FOUND, ResultErrorCodes.NOT_AUTHORIZED,
+                    ResultErrorCodes.NOT_AUTHENTICATED, ResultErrorCodes.BAD_REQUEST,
+                    ResultErrorCodes.SERVICE_NOT_AVAILABLE, ResultErrorCodes.RUNTIME_ERROR),
+                    List.of(ResultErrorCodes.values()).subList(0, 6));
+        }
+
+        @Test
+        @DisplayName("should map null to the runtime error code")
+        void shouldMapNullToRuntimeError() {
+            // Act & Assert
+            assertEquals(500, ResultErrorCodes.toHttpCode(null));
+        }
     }
 
     @Nested
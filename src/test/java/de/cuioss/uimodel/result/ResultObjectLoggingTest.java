@@ -21,7 +21,9 @@ import de.cuioss.test.juli.TestLogLevel;
 import de.cuioss.test.juli.junit5.EnableTestLogger;
 import de.cuioss.test.valueobjects.ValueObjectTest;
 import de.cuioss.test.valueobjects.api.property.PropertyReflectionConfig;
+import de.cuioss.uimodel.LogRateLimiter;
 import de.cuioss.uimodel.nameprovider.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static de.cuioss.test.generator.Generators.nonEmptyStrings;
@@ -39,6 +41,11 @@ class ResultObjectLoggingTest extends ValueObjectTest<ResultObject<String>> {
 
     private static final TypedGenerator<String> STRINGS = nonEmptyStrings();
 
+    @BeforeEach
+    void resetRateLimiter() {
+        LogRateLimiter.SHARED.reset();
+    }
+
     @Test
     void shouldLogResultCreation() {
         // given
@@ -74,6 +81,26 @@ class ResultObjectLoggingTest extends ValueObjectTest<ResultObject<String>> {
         assertEquals("ResultObject include error which you must handle first. See", thrown.getMessage());
     }
 
+    @Test
+    void shouldDeduplicateInvalidResultAccess() {
+        // given
+        final var resultObject = ResultObject.<String>builder()
+                .result(STRINGS.next())
+                .state(ResultState.ERROR)
+                .resultDetail(new ResultDetail(new DisplayName("Error")))
+                .build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThrows(UnsupportedOperationException.class, resultObject::getResult);
+        }
+
+        // then
+        assertSingleLogMessagePresent(TestLogLevel.WARN,
+                WARN.INVALID_RESULT_ACCESS.format(ResultState.ERROR));
+        assertEquals(2, LogRateLimiter.SHARED.getSuppressedCount(WARN.INVALID_RESULT_ACCESS, ResultState.ERROR));
+    }
+
     @Test
     void shouldLogResultMapping() {
         // given
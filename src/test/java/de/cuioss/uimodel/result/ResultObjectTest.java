@@ -232,7 +232,7 @@ class ResultObjectTest extends ValueObjectTest<ResultObject<?>> {
         void shouldHandleMultipleResultDetailsWithState() {
             // Arrange
             final var builder = new ResultObject.Builder<Boolean>();
-            builder.validDefaultResult(Boolean.FALSE).state(ResultState.ERROR);
+            builder.validDefaultResult(Boolean.FALSE).state(ResultState.ERROR).diagnostics(BuilderDiagnostics.LOGGING);
 
             // Act
             builder.resultDetail(new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test1")));
@@ -254,6 +254,42 @@ class ResultObjectTest extends ValueObjectTest<ResultObject<?>> {
             assertTrue(SERVICE_NOT_AVAILABLE.getErrorCode().isPresent());
         }
 
+        @Test
+        @DisplayName("should access detail and error code without Optional")
+        void shouldAccessWithoutOptional() {
+            // Arrange
+            final var result = new ResultObject<>("Test", ResultState.ERROR,
+                    new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test")),
+                    ExampleErrorCodes.SERVICE_NOT_AVAILABLE);
+
+            // Act & Assert
+            assertTrue(result.hasResultDetail());
+            assertFalse(new ResultObject<>("Test", VALID).hasResultDetail());
+            assertThrows(UnsupportedOperationException.class, result::getResult);
+            assertEquals(ExampleErrorCodes.SERVICE_NOT_AVAILABLE, result.errorCodeOrNull());
+            assertEquals("Test", result.resultDetailOrNull().getDetail().getContent());
+            assertEquals("Test", result.getResult());
+        }
+
+        @Test
+        @DisplayName("should create unhandled copies")
+        void shouldCopy() {
+            // Arrange
+            final var result = new ResultObject<>("Test", ResultState.ERROR,
+                    new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test")),
+                    ExampleErrorCodes.SERVICE_NOT_AVAILABLE);
+            result.getErrorCode();
+
+            // Act
+            final var copy = result.copy();
+
+            // Assert
+            assertEquals(result.getState(), copy.getState());
+            assertTrue(copy.hasResultDetail());
+            assertEquals("Test", result.getResult());
+            assertThrows(UnsupportedOperationException.class, copy::getResult);
+        }
+
         @Test
         @DisplayName("should check for error code")
         void shouldCheckForStrategy() {
@@ -265,6 +301,46 @@ class ResultObjectTest extends ValueObjectTest<ResultObject<?>> {
         }
     }
 
+    @Nested
+    @DisplayName("Non-throwing access tests")
+    class NonThrowingAccessTests {
+        @Test
+        @DisplayName("should return fallback instead of throwing")
+        void shouldReturnResultOrElse() {
+            // Arrange
+            final var valid = new ResultObject<>("Test", VALID);
+
+            // Act & Assert
+            assertEquals("Test", valid.getResultOrElse("other"));
+            assertEquals("other", SERVICE_NOT_AVAILABLE.getResultOrElse("other"));
+            LogAsserts.assertNoLogMessagePresent(TestLogLevel.WARN, ResultObject.class);
+        }
+
+        @Test
+        @DisplayName("should fold both outcomes")
+        void shouldFold() {
+            // Arrange
+            final var warning = new ResultObject<>("Test", WARNING,
+                    new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("Test")));
+
+            // Act & Assert
+            assertEquals(4, warning.fold(String::length, failure -> -1));
+            assertEquals(ExampleErrorCodes.SERVICE_NOT_AVAILABLE,
+                    SERVICE_NOT_AVAILABLE.fold(result -> null, failure -> failure.getErrorCode().orElse(null)));
+        }
+
+        @Test
+        @DisplayName("should handle optional results")
+        void shouldHandleOptional() {
+            // Arrange
+            final var valid = new ResultOptional<>("Test", VALID);
+
+            // Act & Assert
+            assertEquals("Test", valid.getResultOrElse(java.util.Optional.empty()).orElse(null));
+            assertEquals("Test", valid.fold(optional -> optional.orElse(null), failure -> null));
+        }
+    }
+
     @Nested
     @DisplayName("Logging tests")
     class LoggingTests {
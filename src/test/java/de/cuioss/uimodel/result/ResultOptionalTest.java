@@ -83,6 +83,37 @@ class ResultOptionalTest {
             assertEquals(expected.getState(), copy.getState());
             assertEquals(expected.getResultDetail(), copy.getResultDetail());
         }
+
+        @Test
+        @DisplayName("should copy optional results")
+        void shouldCopy() {
+            // Arrange
+            var original = new ResultOptional<>("Test", ResultState.VALID);
+
+            // Act
+            ResultOptional<String> copy = original.copy();
+
+            // Assert
+            assertEquals(original, copy);
+            assertEquals("Test", copy.getResult().orElse(null));
+        }
+
+        @Test
+        @DisplayName("should check presence without Optional")
+        void shouldCheckPresence() {
+            // Arrange
+            var present = new ResultOptional<>("Test", ResultState.VALID);
+            var absent = new ResultOptional<String>(null, ResultState.VALID);
+
+            // Act
+            var mapped = new ResultOptional<>(present, String::length);
+
+            // Assert
+            assertTrue(present.isPresent());
+            assertFalse(absent.isPresent());
+            assertTrue(mapped.isPresent());
+            assertEquals(4, mapped.getResult().orElse(null));
+        }
     }
 
     @Nested
@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResultRetryExecutor Tests")
+class ResultRetryExecutorTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private static ResultObject<String> error(final Enum<?> code) {
+        return new ResultObject<>("", ResultState.ERROR,
+                new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("failed")), code);
+    }
+
+    private static ResultRetryExecutor.ResultRetryExecutorBuilder fastExecutor() {
+        return ResultRetryExecutor.builder().initialBackoff(Duration.ofMillis(1)).random(() -> 0.5);
+    }
+
+    @Test
+    @DisplayName("should retry retryable results until valid")
+    void shouldRetry() {
+        // Arrange
+        var executor = fastExecutor().maxAttempts(4).build();
+
+        // Act
+        var result = executor.execute(() -> calls.incrementAndGet() < 3
+                ? error(ResultErrorCodes.SERVICE_NOT_AVAILABLE)
+                : new ResultObject<>("done", ResultState.VALID));
+
+        // Assert
+        assertEquals("done", result.getResult());
+        assertEquals(3, calls.get());
+        assertEquals(1, executor.getAttemptCount(3));
+        assertEquals(0, executor.getAttemptCount(1));
+        assertEquals(0, executor.getAttemptCount(5));
+        assertEquals(3, Arrays.stream(executor.getLatencyHistogram()).sum());
+    }
+
+    @Test
+    @DisplayName("should not retry other codes and give up after max attempts")
+    void shouldStopRetrying() {
+        // Arrange
+        var executor = fastExecutor().maxAttempts(2).build();
+
+        // Act
+        var notFound = executor.execute(() -> {
+            calls.incrementAndGet();
+            return error(ResultErrorCodes.NOT_FOUND);
+        });
+        var unavailable = executor.execute(() -> {
+            calls.incrementAndGet();
+            return error(ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+        });
+
+        // Assert
+        assertEquals(ResultErrorCodes.NOT_FOUND, notFound.getErrorCode().orElse(null));
+        assertEquals(ResultErrorCodes.SERVICE_NOT_AVAILABLE, unavailable.getErrorCode().orElse(null));
+        assertEquals(3, calls.get());
+        assertEquals(1, executor.getAttemptCount(1));
+        assertEquals(1, executor.getAttemptCount(2));
+        assertFalse(executor.isRetryable(new ResultObject<>("", ResultState.VALID)));
+    }
+
+    @Test
+    @DisplayName("should back off exponentially with jitter")
+    void shouldBackOff() {
+        // Arrange
+        var executor = ResultRetryExecutor.builder().initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(300)).jitter(0.2).random(() -> 0.5).build();
+        var lowest = ResultRetryExecutor.builder().initialBackoff(Duration.ofMillis(100)).jitter(0.2)
+                .random(() -> 0.0).build();
+
+        // Act & Assert
+        assertEquals(Duration.ofMillis(100).toNanos(), executor.backoffNanos(1));
+        assertEquals(Duration.ofMillis(200).toNanos(), executor.backoffNanos(2));
+        assertEquals(Duration.ofMillis(300).toNanos(), executor.backoffNanos(3));
+        assertEquals(Duration.ofMillis(300).toNanos(), executor.backoffNanos(10));
+        assertEquals(Duration.ofMillis(80).toNanos(), lowest.backoffNanos(1));
+    }
+
+    @Test
+    @DisplayName("should take the first valid result of hedged calls")
+    void shouldHedge() {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var executor = fastExecutor().hedging(true).hedgeDelay(Duration.ofMillis(10)).build();
+
+        // Act
+        ResultObject<String> result;
+        try {
+            result = executor.execute(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new ResultObject<>("slow", ResultState.VALID);
+                }
+                return new ResultObject<>("hedged", ResultState.VALID);
+            });
+        } finally {
+            release.countDown();
+        }
+
+        // Assert
+        assertEquals("hedged", result.getResult());
+        assertEquals(1, executor.getHedgeCount());
+    }
+
+    @Test
+    @DisplayName("should prefer a valid hedged result over an earlier error")
+    void shouldPreferValidHedgedResult() {
+        // Arrange
+        var primaryDone = new CountDownLatch(1);
+        var executor = fastExecutor().maxAttempts(1).hedging(true).hedgeDelay(Duration.ofMillis(10)).build();
+
+        // Act
+        var result = executor.execute(() -> {
+            try {
+                if (calls.incrementAndGet() == 1) {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                    primaryDone.countDown();
+                    return error(ResultErrorCodes.SERVICE_NOT_AVAILABLE);
+                }
+                // completes after the primary call returned the error
+                primaryDone.await(5, TimeUnit.SECONDS);
+                TimeUnit.MILLISECONDS.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ResultObject<>("hedged", ResultState.VALID);
+        });
+
+        // Assert
+        assertEquals("hedged", result.getResult());
+        assertEquals(ResultState.VALID, result.getState());
+        assertEquals(1, executor.getHedgeCount());
+    }
+
+    @Test
+    @DisplayName("should interrupt the losing hedged call")
+    void shouldCancelLosingCall() throws InterruptedException {
+        // Arrange
+        var interrupted = new CountDownLatch(1);
+        var executor = fastExecutor().hedging(true).hedgeDelay(Duration.ofMillis(10)).build();
+
+        // Act
+        var result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    TimeUnit.SECONDS.sleep(5);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return new ResultObject<>("slow", ResultState.VALID);
+            }
+            return new ResultObject<>("hedged", ResultState.VALID);
+        });
+
+        // Assert
+        assertEquals("hedged", result.getResult());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("should keep interrupts not caused by cancelling a hedged call")
+    void shouldKeepForeignInterrupt() throws InterruptedException {
+        // Arrange
+        var keptInterrupt = new AtomicBoolean();
+        var done = new CountDownLatch(1);
+        var executor = fastExecutor().hedging(true).hedgeDelay(Duration.ofSeconds(1))
+                .hedgeExecutor(command -> Thread.ofVirtual().start(() -> {
+                    command.run();
+                    keptInterrupt.set(Thread.currentThread().isInterrupted());
+                    done.countDown();
+                })).build();
+
+        // Act
+        var result = executor.execute(() -> {
+            Thread.currentThread().interrupt();
+            return new ResultObject<>("done", ResultState.VALID);
+        });
+
+        // Assert
+        assertEquals("done", result.getResult());
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertTrue(keptInterrupt.get());
+    }
+
+    @Test
+    @DisplayName("should not hedge before enough latencies are recorded")
+    void shouldDeriveHedgeDelay() {
+        // Arrange
+        var executor = fastExecutor().hedging(true).build();
+
+        // Act
+        for (int i = 0; i < ResultRetryExecutor.HEDGE_MIN_SAMPLES; i++) {
+            executor.execute(() -> new ResultObject<>("", ResultState.VALID));
+        }
+        assertEquals(0, executor.getHedgeCount());
+        var result = executor.execute(() -> new ResultObject<>("fast", ResultState.VALID));
+
+        // Assert
+        assertEquals("fast", result.getResult());
+        assertTrue(executor.getLatencyPercentile(0.95).compareTo(Duration.ZERO) > 0);
+        assertEquals(Duration.ZERO, fastExecutor().build().getLatencyPercentile(0.5));
+    }
+
+    @Test
+    @DisplayName("should rethrow exceptions of the call")
+    void shouldRethrow() {
+        // Arrange
+        var executor = fastExecutor().build();
+        var hedging = fastExecutor().hedging(true).hedgeDelay(Duration.ofSeconds(1)).build();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> executor.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertThrows(IllegalStateException.class, () -> hedging.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertThrows(IllegalArgumentException.class, () -> ResultRetryExecutor.builder().maxAttempts(0).build());
+        assertThrows(IllegalArgumentException.class, () -> ResultRetryExecutor.builder()
+                .maxAttempts(ResultRetryExecutor.MAX_ATTEMPTS_LIMIT + 1).build());
+    }
+}
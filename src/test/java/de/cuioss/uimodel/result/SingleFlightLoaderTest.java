@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SingleFlightLoader Tests")
+class SingleFlightLoaderTest {
+
+    private static final int CALLERS = 50;
+
+    @Test
+    @DisplayName("should share a single load between concurrent callers")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        var loader = new SingleFlightLoader<String, ResultObject<String>>(key -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ResultObject<>(key, ResultState.ERROR,
+                    new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("down")),
+                    ResultErrorCodes.NOT_FOUND);
+        }, ResultObject::copy);
+        List<Future<ResultObject<String>>> results = new ArrayList<>();
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> loader.get("a")));
+            }
+            while (loader.getLoadCount() + loader.getCoalescedCount() < CALLERS) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals(1, loader.getLoadCount());
+        assertEquals(CALLERS - 1, loader.getCoalescedCount());
+        assertEquals(0, loader.getInFlightCount());
+        var first = results.get(0).get();
+        for (var future : results) {
+            var result = future.get();
+            assertEquals(ResultErrorCodes.NOT_FOUND, result.getErrorCode().orElse(null));
+            assertEquals("down", result.getResultDetail().orElseThrow().getDetail().getContent());
+        }
+        assertNotSame(first, results.get(1).get());
+    }
+
+    @Test
+    @DisplayName("should hand out unhandled copies to waiting callers")
+    void shouldCopyForWaiters() throws Exception {
+        // Arrange
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var loader = new SingleFlightLoader<String, ResultObject<String>>(key -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ResultObject<>(key, ResultState.ERROR,
+                    new ResultDetail(new de.cuioss.uimodel.nameprovider.DisplayName("down")));
+        }, ResultObject::copy);
+
+        // Act
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var leader = executor.submit(() -> loader.get("a"));
+            started.await(5, TimeUnit.SECONDS);
+            var waiter = executor.submit(() -> loader.get("a"));
+            while (loader.getCoalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            leader.get().getResultDetail();
+
+            // Assert
+            assertEquals("a", leader.get().getResult());
+            assertThrows(UnsupportedOperationException.class, waiter.get()::getResult);
+        }
+    }
+
+    @Test
+    @DisplayName("should propagate failures and load again afterwards")
+    void shouldPropagateFailures() {
+        // Arrange
+        var calls = new AtomicInteger();
+        var loader = new SingleFlightLoader<String, ResultObject<String>>(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return new ResultObject<>(key, ResultState.VALID);
+        }, ResultObject::copy);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> loader.get("a"));
+        assertEquals("a", loader.get("a").getResult());
+        assertEquals(0, loader.getInFlightCount());
+        assertThrows(NullPointerException.class, () -> loader.get(null));
+        assertTrue(loader.getLoadCount() >= 2);
+    }
+
+    @Test
+    @DisplayName("should fail fast on recursive loads of the same key")
+    void shouldRejectRecursiveLoads() {
+        // Arrange
+        var self = new AtomicReference<SingleFlightLoader<String, ResultObject<String>>>();
+        self.set(new SingleFlightLoader<>(key -> {
+            if ("parent".equals(key)) {
+                return self.get().get("child");
+            }
+            if ("child".equals(key)) {
+                return new ResultObject<>(key, ResultState.VALID);
+            }
+            return self.get().get(key);
+        }, ResultObject::copy));
+
+        // Act & Assert
+        assertEquals("child", self.get().get("parent").getResult());
+        assertThrows(IllegalStateException.class, () -> self.get().get("cycle"));
+        assertEquals(0, self.get().getInFlightCount());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.service;
+
+import de.cuioss.uimodel.service.CircuitBreakerService.CircuitState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CircuitBreakerService Tests")
+class CircuitBreakerServiceTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ScriptedService delegate = new ScriptedService();
+    private CircuitBreakerService underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = CircuitBreakerService.builder().delegate(delegate).timeToLive(Duration.ofSeconds(5))
+                .openDuration(Duration.ofSeconds(30)).failureThreshold(2).nanoClock(clock::get).build();
+    }
+
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should cache the state within its time to live")
+        void shouldCacheState() {
+            // Arrange
+            delegate.state = ServiceState.ACTIVE;
+
+            // Act & Assert
+            assertTrue(underTest.isServiceAvailable());
+            clock.addAndGet(4 * SECOND);
+            assertTrue(underTest.isServiceAvailable());
+            assertEquals(1, delegate.calls.get());
+
+            delegate.state = ServiceState.NOT_CONFIGURED;
+            clock.addAndGet(SECOND);
+            assertEquals(ServiceState.NOT_CONFIGURED, underTest.getServiceState());
+            assertEquals(2, underTest.getProbeCount());
+            assertEquals(CircuitState.CLOSED, underTest.getCircuitState());
+        }
+
+        @Test
+        @DisplayName("Should probe again after invalidation")
+        void shouldProbeAfterInvalidate() {
+            delegate.state = ServiceState.ACTIVE;
+            underTest.getServiceState();
+
+            underTest.invalidate();
+            underTest.getServiceState();
+
+            assertEquals(2, delegate.calls.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit Tests")
+    class CircuitTests {
+
+        @Test
+        @DisplayName("Should open after consecutive failures and close after successful probe")
+        void shouldOpenAndClose() {
+            // Arrange
+            delegate.state = ServiceState.TEMPORARILY_UNAVAILABLE;
+            delegate.failNext = true;
+
+            // Act & Assert
+            assertEquals(ServiceState.TEMPORARILY_UNAVAILABLE, underTest.getServiceState());
+            assertEquals(CircuitState.CLOSED, underTest.getCircuitState());
+            clock.addAndGet(5 * SECOND);
+            assertEquals(ServiceState.TEMPORARILY_UNAVAILABLE, underTest.getServiceState());
+            assertEquals(CircuitState.OPEN, underTest.getCircuitState());
+
+            clock.addAndGet(29 * SECOND);
+            underTest.invalidate();
+            assertFalse(underTest.isServiceAvailable());
+            assertEquals(2, delegate.calls.get());
+
+            delegate.state = ServiceState.ACTIVE;
+            clock.addAndGet(SECOND);
+            assertTrue(underTest.isServiceAvailable());
+            assertEquals(CircuitState.CLOSED, underTest.getCircuitState());
+
+            assertEquals(1, underTest.getTransitionCount(CircuitState.CLOSED, CircuitState.OPEN));
+            assertEquals(1, underTest.getTransitionCount(CircuitState.OPEN, CircuitState.HALF_OPEN));
+            assertEquals(1, underTest.getTransitionCount(CircuitState.HALF_OPEN, CircuitState.CLOSED));
+            assertEquals(2, underTest.getFailureCount());
+        }
+
+        @Test
+        @DisplayName("Should re-open on failing half-open probe")
+        void shouldReopen() {
+            // Arrange
+            delegate.state = ServiceState.TEMPORARILY_UNAVAILABLE;
+            underTest.getServiceState();
+            clock.addAndGet(5 * SECOND);
+            underTest.getServiceState();
+
+            // Act
+            clock.addAndGet(30 * SECOND);
+            underTest.getServiceState();
+
+            // Assert
+            assertEquals(CircuitState.OPEN, underTest.getCircuitState());
+            assertEquals(1, underTest.getTransitionCount(CircuitState.HALF_OPEN, CircuitState.OPEN));
+        }
+
+        @Test
+        @DisplayName("Should expose half-open state while probing")
+        void shouldExposeHalfOpenWhileProbing() {
+            // Arrange
+            delegate.state = ServiceState.TEMPORARILY_UNAVAILABLE;
+            underTest.getServiceState();
+            clock.addAndGet(5 * SECOND);
+            underTest.getServiceState();
+            final var duringProbe = new AtomicReference<CircuitState>();
+            delegate.duringCall = () -> duringProbe.set(underTest.getCircuitState());
+            delegate.state = ServiceState.ACTIVE;
+
+            // Act
+            clock.addAndGet(30 * SECOND);
+            underTest.getServiceState();
+
+            // Assert
+            assertEquals(CircuitState.HALF_OPEN, duringProbe.get());
+            assertEquals(CircuitState.CLOSED, underTest.getCircuitState());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        final var builder = CircuitBreakerService.builder().delegate(delegate).failureThreshold(0);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private static class ScriptedService implements OptionalService {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private ServiceState state = ServiceState.ACTIVE;
+        private boolean failNext;
+        private Runnable duringCall = () -> {
+        };
+
+        @Override
+        public ServiceState getServiceState() {
+            calls.incrementAndGet();
+            duringCall.run();
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("boom");
+            }
+            return state;
+        }
+    }
+}
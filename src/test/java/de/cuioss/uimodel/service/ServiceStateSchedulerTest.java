@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.uimodel.service;
+
+import de.cuioss.uimodel.service.ServiceStateScheduler.StateTransition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ServiceStateScheduler Tests")
+class ServiceStateSchedulerTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private ServiceStateScheduler underTest;
+
+    @AfterEach
+    void tearDown() {
+        if (null != underTest) {
+            underTest.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Backoff Tests")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("Should double the delay up to the maximum backoff")
+        void shouldBackOff() {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofSeconds(1))
+                    .maxBackoff(Duration.ofSeconds(5)).random(() -> 0.5).build();
+
+            // Act & Assert
+            assertEquals(SECOND, underTest.nextDelayNanos(0));
+            assertEquals(2 * SECOND, underTest.nextDelayNanos(1));
+            assertEquals(4 * SECOND, underTest.nextDelayNanos(2));
+            assertEquals(5 * SECOND, underTest.nextDelayNanos(3));
+            assertEquals(5 * SECOND, underTest.nextDelayNanos(Integer.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("Should apply jitter")
+        void shouldApplyJitter() {
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofSeconds(10)).jitter(0.1)
+                    .random(() -> 0.0).build();
+
+            assertEquals(9 * SECOND, underTest.nextDelayNanos(0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> ServiceStateScheduler.builder().jitter(1.5).build());
+        }
+    }
+
+    @Nested
+    @DisplayName("Probing Tests")
+    class ProbingTests {
+
+        @Test
+        @DisplayName("Should probe in background and publish transitions")
+        void shouldProbeAndPublish() throws InterruptedException {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofMillis(20)).build();
+            final var transitions = new LinkedBlockingQueue<StateTransition>();
+            underTest.getTransitions().subscribe(new QueueSubscriber(transitions));
+            final var delegate = new MutableService();
+
+            // Act
+            final var scheduled = underTest.register(delegate);
+
+            // Assert
+            final var first = transitions.poll(5, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertEquals(ServiceState.ACTIVE, first.current());
+            assertSame(scheduled, first.service());
+            assertTrue(scheduled.isServiceAvailable());
+            assertSame(scheduled, underTest.register(delegate));
+
+            delegate.state = ServiceState.NOT_CONFIGURED;
+            final var second = transitions.poll(5, TimeUnit.SECONDS);
+            assertNotNull(second);
+            assertEquals(ServiceState.ACTIVE, second.previous());
+            assertEquals(ServiceState.NOT_CONFIGURED, scheduled.getServiceState());
+        }
+
+        @Test
+        @DisplayName("Should map failures to temporarily unavailable")
+        void shouldMapFailures() {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofHours(1)).build();
+            final var delegate = new MutableService();
+            delegate.fail = true;
+            final var scheduled = underTest.register(delegate);
+            underTest.unregister(delegate);
+
+            // Act
+            final var state = underTest.refreshNow(scheduled);
+
+            // Assert
+            assertEquals(ServiceState.TEMPORARILY_UNAVAILABLE, state);
+            assertTrue(scheduled.getConsecutiveFailures() >= 1);
+            assertTrue(underTest.getServices().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should cancel probes exceeding the timeout and keep probing")
+        void shouldTimeOutProbes() throws InterruptedException {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofMillis(20))
+                    .probeTimeout(Duration.ofMillis(50)).build();
+            final var transitions = new LinkedBlockingQueue<StateTransition>();
+            underTest.getTransitions().subscribe(new QueueSubscriber(transitions));
+            final var calls = new AtomicInteger();
+            final var interrupted = new CountDownLatch(1);
+
+            // Act
+            final var scheduled = underTest.register(new SuppliedService(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        TimeUnit.SECONDS.sleep(5);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return ServiceState.ACTIVE;
+            }));
+
+            // Assert
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            final var transition = transitions.poll(5, TimeUnit.SECONDS);
+            assertNotNull(transition);
+            assertEquals(ServiceState.ACTIVE, transition.current());
+            assertEquals(ServiceState.ACTIVE, scheduled.getServiceState());
+            assertThrows(IllegalArgumentException.class,
+                    () -> ServiceStateScheduler.builder().probeTimeout(Duration.ZERO).build());
+        }
+
+        @Test
+        @DisplayName("Should keep probing after a probe threw an error")
+        void shouldRescheduleAfterError() throws InterruptedException {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofMillis(20)).build();
+            final var transitions = new LinkedBlockingQueue<StateTransition>();
+            underTest.getTransitions().subscribe(new QueueSubscriber(transitions));
+            final var calls = new AtomicInteger();
+
+            // Act
+            final var scheduled = underTest.register(new SuppliedService(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new AssertionError("boom");
+                }
+                return ServiceState.ACTIVE;
+            }));
+
+            // Assert
+            final var transition = transitions.poll(5, TimeUnit.SECONDS);
+            assertNotNull(transition);
+            assertEquals(ServiceState.ACTIVE, transition.current());
+            assertTrue(calls.get() >= 2);
+            assertEquals(0, scheduled.getConsecutiveFailures());
+        }
+
+        @Test
+        @DisplayName("Should drop transitions of probes completing after close")
+        void shouldDropTransitionsAfterClose() {
+            // Arrange
+            underTest = ServiceStateScheduler.builder().refreshInterval(Duration.ofHours(1)).build();
+            final var delegate = new MutableService();
+            delegate.state = ServiceState.NOT_CONFIGURED;
+            final var scheduled = underTest.register(delegate);
+            underTest.close();
+            delegate.state = ServiceState.ACTIVE;
+
+            // Act
+            final var state = underTest.refreshNow(scheduled);
+
+            // Assert
+            assertEquals(ServiceState.ACTIVE, state);
+            assertEquals(0, scheduled.getConsecutiveFailures());
+        }
+    }
+
+    private static class MutableService implements OptionalService {
+
+        private volatile ServiceState state = ServiceState.ACTIVE;
+        private volatile boolean fail;
+
+        @Override
+        public ServiceState getServiceState() {
+            if (fail) {
+                throw new IllegalStateException("boom");
+            }
+            return state;
+        }
+    }
+
+    private record SuppliedService(Supplier<ServiceState> supplier) implements OptionalService {
+
+        @Override
+        public ServiceState getServiceState() {
+            return supplier.get();
+        }
+    }
+
+    private record QueueSubscriber(BlockingQueue<StateTransition> queue) implements Flow.Subscriber<StateTransition> {
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final StateTransition item) {
+            queue.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            // not expected
+        }
+
+        @Override
+        public void onComplete() {
+            // nothing to do
+        }
+    }
+}